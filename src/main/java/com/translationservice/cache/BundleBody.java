@@ -0,0 +1,42 @@
+package com.translationservice.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+public class BundleBody {
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private BundleBody(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public static BundleBody of(byte[] json) {
+        return new BundleBody(json, gzip(json));
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public long size() {
+        return (long) json.length + gzip.length;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip bundle body", e);
+        }
+        return compressed.toByteArray();
+    }
+}
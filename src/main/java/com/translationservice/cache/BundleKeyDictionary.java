@@ -0,0 +1,26 @@
+package com.translationservice.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonical instances of translation keys, shared by the bundles of all locales, so a key present in
+ * every locale is held in memory once. Keys are never dropped: a key deleted everywhere costs one
+ * string until the next restart.
+ */
+@Component
+public class BundleKeyDictionary {
+
+    private final ConcurrentMap<String, String> keys = new ConcurrentHashMap<>();
+
+    public String intern(String key) {
+        String existing = keys.putIfAbsent(key, key);
+        return existing != null ? existing : key;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+}
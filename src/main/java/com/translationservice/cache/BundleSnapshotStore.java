@@ -0,0 +1,47 @@
+package com.translationservice.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Every locale bundle in one immutable map behind an {@link AtomicReference}. Readers take the current
+ * map without locking, and a change to one locale swaps in a copy holding that locale's new bundle;
+ * the other bundles are shared, not rebuilt. Unlike the bundle cache nothing is evicted or expires,
+ * so once loaded a bundle is served from memory until a write replaces it.
+ */
+@Component
+public class BundleSnapshotStore {
+
+    private final AtomicReference<Map<String, LocaleBundle>> bundles = new AtomicReference<>(Map.of());
+
+    public LocaleBundle get(String localeCode) {
+        return bundles.get().get(localeCode);
+    }
+
+    public Map<String, LocaleBundle> getAll() {
+        return bundles.get();
+    }
+
+    /**
+     * Stores the bundle unless a newer one for its locale is already there.
+     *
+     * @return whether the bundle was stored
+     */
+    public boolean put(LocaleBundle bundle) {
+        while (true) {
+            Map<String, LocaleBundle> current = bundles.get();
+            LocaleBundle existing = current.get(bundle.getLocaleCode());
+            if (existing != null && existing.getVersion() > bundle.getVersion()) {
+                return false;
+            }
+            Map<String, LocaleBundle> next = new HashMap<>(current);
+            next.put(bundle.getLocaleCode(), bundle);
+            if (bundles.compareAndSet(current, Map.copyOf(next))) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.translationservice.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BundleVersions {
+
+    private final ConcurrentMap<String, AtomicLong> localeVersions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    public long current(String localeCode) {
+        AtomicLong version = localeVersions.get(localeCode);
+        return version != null ? version.get() : 0L;
+    }
+
+    public long global() {
+        return globalVersion.get();
+    }
+
+    public long bump(String localeCode) {
+        // The locale moves first so that anything stamped with the new global version also sees the new bundle
+        long version = localeVersions.computeIfAbsent(localeCode, code -> new AtomicLong()).incrementAndGet();
+        globalVersion.incrementAndGet();
+        return version;
+    }
+}
@@ -0,0 +1,142 @@
+package com.translationservice.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable key to content map held as two parallel arrays sorted by key, a fraction of the
+ * size of a hash map of the same entries. Lookups are binary searches and iteration is in key
+ * order. Keys are interned through a {@link BundleKeyDictionary} when one is given.
+ *
+ * <p>{@link #with} and {@link #without} return a changed copy, so a single write rebuilds one
+ * locale's arrays rather than reloading it; a changed content shares the key array.
+ */
+public final class CompactTranslations extends AbstractMap<String, String> {
+
+    private static final String[] EMPTY = new String[0];
+
+    private final String[] keys;
+    private final String[] contents;
+    private final BundleKeyDictionary keyDictionary;
+
+    private CompactTranslations(String[] keys, String[] contents, BundleKeyDictionary keyDictionary) {
+        this.keys = keys;
+        this.contents = contents;
+        this.keyDictionary = keyDictionary;
+    }
+
+    /**
+     * The given translations in compact form; an instance that already is compact is returned as is.
+     */
+    public static CompactTranslations of(Map<String, String> translations, BundleKeyDictionary keyDictionary) {
+        if (translations instanceof CompactTranslations compact) {
+            return compact;
+        }
+        if (translations.isEmpty()) {
+            return new CompactTranslations(EMPTY, EMPTY, keyDictionary);
+        }
+        String[] keys = translations.keySet().toArray(EMPTY);
+        Arrays.sort(keys);
+        String[] contents = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            contents[i] = translations.get(keys[i]);
+            if (keyDictionary != null) {
+                keys[i] = keyDictionary.intern(keys[i]);
+            }
+        }
+        return new CompactTranslations(keys, contents, keyDictionary);
+    }
+
+    public CompactTranslations with(String key, String content) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index >= 0) {
+            if (contents[index].equals(content)) {
+                return this;
+            }
+            String[] changed = contents.clone();
+            changed[index] = content;
+            return new CompactTranslations(keys, changed, keyDictionary);
+        }
+        int insertAt = -(index + 1);
+        String[] newKeys = new String[keys.length + 1];
+        String[] newContents = new String[keys.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, insertAt);
+        System.arraycopy(contents, 0, newContents, 0, insertAt);
+        newKeys[insertAt] = keyDictionary != null ? keyDictionary.intern(key) : key;
+        newContents[insertAt] = content;
+        System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+        System.arraycopy(contents, insertAt, newContents, insertAt + 1, keys.length - insertAt);
+        return new CompactTranslations(newKeys, newContents, keyDictionary);
+    }
+
+    public CompactTranslations without(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return this;
+        }
+        String[] newKeys = new String[keys.length - 1];
+        String[] newContents = new String[keys.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(contents, 0, newContents, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+        System.arraycopy(contents, index + 1, newContents, index, keys.length - index - 1);
+        return new CompactTranslations(newKeys, newContents, keyDictionary);
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? contents[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, String> entry = new SimpleImmutableEntry<>(keys[next], contents[next]);
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof String text ? Arrays.binarySearch(keys, text) : -1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.translationservice.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+class ContentHash {
+
+    private final MessageDigest digest;
+
+    ContentHash() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    ContentHash add(String value) {
+        return add(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    ContentHash add(byte[] bytes) {
+        // Length-prefixed so that ("ab", "c") and ("a", "bc") hash differently
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+        return this;
+    }
+
+    String toETag() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    }
+}
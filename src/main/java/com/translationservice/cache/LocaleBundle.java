@@ -0,0 +1,103 @@
+package com.translationservice.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+
+public class LocaleBundle {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String localeCode;
+    private final long version;
+    private final CompactTranslations translations;
+    private final Instant lastModified;
+    // Built by the first reader rather than by the write or load that created the bundle
+    private volatile Serialized serialized;
+
+    public LocaleBundle(String localeCode, long version, Map<String, String> translations, Instant lastModified) {
+        this.localeCode = localeCode;
+        this.version = version;
+        // Held sorted by key, so it is serialized in key order as is
+        this.translations = CompactTranslations.of(translations, null);
+        this.lastModified = lastModified;
+    }
+
+    public String getLocaleCode() {
+        return localeCode;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public CompactTranslations getTranslations() {
+        return translations;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public BundleBody getBody() {
+        return serialized().body;
+    }
+
+    public String getETag() {
+        return serialized().eTag;
+    }
+
+    /**
+     * Size of the serialized body, or zero if no reader has needed it yet. Never builds the body, so
+     * observers such as metrics do not pay for a serialization no client asked for.
+     */
+    public long getBuiltBodySize() {
+        Serialized current = serialized;
+        return current != null ? current.body.size() : 0;
+    }
+
+    private Serialized serialized() {
+        Serialized current = serialized;
+        if (current == null) {
+            synchronized (this) {
+                current = serialized;
+                if (current == null) {
+                    // Serialized once per version with sorted keys, so the bytes (and their hash) are identical on every instance
+                    BundleBody body = BundleBody.of(serialize(translations));
+                    current = new Serialized(body, new ContentHash().add(body.getJson()).toETag());
+                    serialized = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static byte[] serialize(Map<String, String> sortedTranslations) {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(json)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> entry : sortedTranslations.entrySet()) {
+                generator.writeStringField(entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize bundle", e);
+        }
+        return json.toByteArray();
+    }
+
+    private static final class Serialized {
+        private final BundleBody body;
+        private final String eTag;
+
+        private Serialized(BundleBody body, String eTag) {
+            this.body = body;
+            this.eTag = eTag;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.translationservice.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Locale bundles, versioned by {@link BundleVersions} so that a bundle built before a write is never
+ * mistaken for a current one. Loads are single-flight: concurrent readers of a missing or stale bundle
+ * share one load per locale instead of each reading the whole locale from the database.
+ *
+ * <p>With {@code app.cache.bundle.stale-while-revalidate}, a write leaves the previous bundle cached and
+ * readers keep getting it while one background load builds the new one; the export still waits for
+ * current bundles.
+ *
+ * <p>With {@code app.cache.bundle.snapshot-store}, bundles are held in the {@link BundleSnapshotStore}
+ * instead of the bounded cache: all locales are loaded once the application is ready and never evicted,
+ * and a write patches only its own locale's bundle, so bundle reads no longer reach the database.
+ */
+@Component
+public class LocaleBundleCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LocaleBundleCache.class);
+
+    static final String CACHE_NAME = "translationsByLocale";
+    static final String EXPORT_CACHE_NAME = "allTranslationsJson";
+
+    private final CacheManager cacheManager;
+    private final LocaleBundleLoader localeBundleLoader;
+    private final BundleVersions bundleVersions;
+    private final BundleSnapshotStore snapshotStore;
+    private final ReferenceDictionary referenceDictionary;
+    // At most one load per locale; a caller joins it only if it started late enough to see the caller's version
+    private final ConcurrentMap<String, Load> loads = new ConcurrentHashMap<>();
+    // Orders a locale's stores and invalidations; writes to other locales do not wait on it
+    private final ConcurrentMap<String, Object> locks = new ConcurrentHashMap<>();
+
+    @Value("${app.cache.bundle.patch-in-place:false}")
+    private boolean patchInPlace;
+
+    @Value("${app.cache.bundle.stale-while-revalidate:false}")
+    private boolean staleWhileRevalidate;
+
+    @Value("${app.cache.bundle.snapshot-store:false}")
+    private boolean snapshotStoreEnabled;
+
+    // Runs the background loads of stale-while-revalidate, which block on the database
+    private final Executor revalidationExecutor;
+
+    public LocaleBundleCache(CacheManager cacheManager, LocaleBundleLoader localeBundleLoader, BundleVersions bundleVersions,
+                             BundleSnapshotStore snapshotStore, ReferenceDictionary referenceDictionary,
+                             @Qualifier("bundleRevalidationExecutor") Executor revalidationExecutor) {
+        this.cacheManager = cacheManager;
+        this.localeBundleLoader = localeBundleLoader;
+        this.bundleVersions = bundleVersions;
+        this.snapshotStore = snapshotStore;
+        this.referenceDictionary = referenceDictionary;
+        this.revalidationExecutor = revalidationExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!snapshotStoreEnabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (LocaleInfo locale : referenceDictionary.getLocales()) {
+            try {
+                getBundle(locale.getCode(), false);
+            } catch (RuntimeException e) {
+                // Loaded on first read instead
+                log.warn("Could not preload bundle for locale {}", locale.getCode(), e);
+            }
+        }
+        log.info("Snapshot store loaded with {} locale bundles in {} ms",
+                snapshotStore.getAll().size(), System.currentTimeMillis() - start);
+    }
+
+    public LocaleBundle getBundle(String localeCode) {
+        return getBundle(localeCode, staleWhileRevalidate);
+    }
+
+    private LocaleBundle getBundle(String localeCode, boolean allowStale) {
+        long version = bundleVersions.current(localeCode);
+        LocaleBundle bundle = peek(localeCode);
+        if (bundle != null && bundle.getVersion() >= version) {
+            return bundle;
+        }
+        if (bundle != null && allowStale) {
+            revalidate(localeCode, version);
+            return bundle;
+        }
+        return load(localeCode, version);
+    }
+
+    private LocaleBundle load(String localeCode, long version) {
+        Load load = new Load(version);
+        Load running = claim(localeCode, load);
+        if (running != load) {
+            try {
+                return running.result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return run(localeCode, load);
+    }
+
+    private void revalidate(String localeCode, long version) {
+        Load load = new Load(version);
+        if (claim(localeCode, load) != load) {
+            return;
+        }
+        try {
+            revalidationExecutor.execute(() -> {
+                try {
+                    run(localeCode, load);
+                } catch (RuntimeException e) {
+                    // Readers keep the previous bundle; the next read past a later write tries again
+                    log.warn("Could not revalidate bundle for locale {}", localeCode, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            loads.remove(localeCode, load);
+            load.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // The given load, or a running one that started late enough to include the load's version
+    private Load claim(String localeCode, Load load) {
+        return loads.compute(localeCode, (code, current) ->
+                current != null && current.version >= load.version ? current : load);
+    }
+
+    private LocaleBundle run(String localeCode, Load load) {
+        try {
+            LocaleBundle bundle = localeBundleLoader.loadBundle(localeCode);
+            store(localeCode, bundle);
+            load.result.complete(bundle);
+            return bundle;
+        } catch (RuntimeException e) {
+            load.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(localeCode, load);
+        }
+    }
+
+    // A load that overlapped a write may finish after a newer bundle was stored, and must not replace it
+    private void store(String localeCode, LocaleBundle bundle) {
+        synchronized (lock(localeCode)) {
+            LocaleBundle cached = peek(localeCode);
+            if (cached == null || cached.getVersion() <= bundle.getVersion()) {
+                putBundle(bundle);
+            }
+        }
+    }
+
+    /**
+     * The bundle cached for the locale, current or not, without loading one; for metrics.
+     */
+    public LocaleBundle getCachedBundle(String localeCode) {
+        return peek(localeCode);
+    }
+
+    public TranslationExport getExport(Supplier<Collection<String>> localeCodes) {
+        // Keyed by the global version: an export assembled while a write lands is never served afterwards
+        Cache cache = cache(EXPORT_CACHE_NAME);
+        long version = bundleVersions.global();
+        Cache.ValueWrapper cached = cache.get(version);
+        if (cached != null) {
+            return (TranslationExport) cached.get();
+        }
+
+        List<LocaleBundle> bundles = new ArrayList<>();
+        for (String localeCode : localeCodes.get()) {
+            bundles.add(getBundle(localeCode, false));
+        }
+        TranslationExport export = new TranslationExport(bundles);
+        cache.put(version, export);
+        return export;
+    }
+
+    public void evict(String localeCode) {
+        afterCommit(() -> invalidate(localeCode));
+    }
+
+    public void put(String localeCode, String key, String content) {
+        update(localeCode, key, content);
+    }
+
+    public void remove(String localeCode, String key) {
+        update(localeCode, key, null);
+    }
+
+    // A null content removes the key
+    private void update(String localeCode, String key, String content) {
+        afterCommit(() -> {
+            if (patchInPlace || snapshotStoreEnabled) {
+                invalidate(localeCode, key, content);
+            } else {
+                invalidate(localeCode);
+            }
+        });
+    }
+
+    private void invalidate(String localeCode, String key, String content) {
+        synchronized (lock(localeCode)) {
+            LocaleBundle cached = peek(localeCode);
+            long previousVersion = bundleVersions.current(localeCode);
+            long version = bundleVersions.bump(localeCode);
+            cache(EXPORT_CACHE_NAME).clear();
+
+            // Only a bundle that was current before this write can be patched; anything older is reloaded
+            if (cached == null || cached.getVersion() != previousVersion) {
+                evictUnlessServedStale(localeCode);
+                return;
+            }
+            // Copies the locale's arrays with the one entry changed; every other bundle is left alone, and the
+            // new bundle's body is serialized by its first reader
+            CompactTranslations translations = content != null
+                    ? cached.getTranslations().with(key, content)
+                    : cached.getTranslations().without(key);
+            Instant now = Instant.now();
+            Instant lastModified = cached.getLastModified() != null && cached.getLastModified().isAfter(now)
+                    ? cached.getLastModified()
+                    : now;
+            putBundle(new LocaleBundle(localeCode, version, translations, lastModified));
+        }
+    }
+
+    private void invalidate(String localeCode) {
+        synchronized (lock(localeCode)) {
+            bundleVersions.bump(localeCode);
+            cache(EXPORT_CACHE_NAME).clear();
+            evictUnlessServedStale(localeCode);
+        }
+    }
+
+    private Object lock(String localeCode) {
+        return locks.computeIfAbsent(localeCode, code -> new Object());
+    }
+
+    // Outdated bundles are kept for readers that accept a stale bundle, and in the snapshot store, whose
+    // readers reload a locale they find outdated
+    private void evictUnlessServedStale(String localeCode) {
+        if (!staleWhileRevalidate && !snapshotStoreEnabled) {
+            cache(CACHE_NAME).evict(localeCode);
+        }
+    }
+
+    private LocaleBundle peek(String localeCode) {
+        return snapshotStoreEnabled ? snapshotStore.get(localeCode) : peek(cache(CACHE_NAME), localeCode);
+    }
+
+    private void putBundle(LocaleBundle bundle) {
+        if (snapshotStoreEnabled) {
+            snapshotStore.put(bundle);
+        } else {
+            cache(CACHE_NAME).put(bundle.getLocaleCode(), bundle);
+        }
+    }
+
+    private LocaleBundle peek(Cache cache, String localeCode) {
+        Cache.ValueWrapper cached = cache.get(localeCode);
+        return cached != null ? (LocaleBundle) cached.get() : null;
+    }
+
+    private static final class Load {
+
+        private final long version;
+        private final CompletableFuture<LocaleBundle> result = new CompletableFuture<>();
+
+        private Load(long version) {
+            this.version = version;
+        }
+    }
+
+    private Cache cache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + cacheName);
+        }
+        return cache;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.translationservice.cache;
+
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.exception.ResourceNotFoundException;
+import com.translationservice.model.Locale;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TranslationRepository;
+import com.translationservice.repository.TranslationTombstoneRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Component
+public class LocaleBundleLoader {
+
+    private final LocaleRepository localeRepository;
+    private final ReferenceDictionary referenceDictionary;
+    private final BundleKeyDictionary keyDictionary;
+    private final TranslationRepository translationRepository;
+    private final TranslationTombstoneRepository tombstoneRepository;
+    private final BundleVersions bundleVersions;
+    private final TransactionTemplate transactionTemplate;
+
+    public LocaleBundleLoader(LocaleRepository localeRepository, ReferenceDictionary referenceDictionary,
+                              BundleKeyDictionary keyDictionary, TranslationRepository translationRepository,
+                              TranslationTombstoneRepository tombstoneRepository, BundleVersions bundleVersions,
+                              PlatformTransactionManager transactionManager) {
+        this.localeRepository = localeRepository;
+        this.referenceDictionary = referenceDictionary;
+        this.keyDictionary = keyDictionary;
+        this.translationRepository = translationRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.bundleVersions = bundleVersions;
+        // Loads run outside any caller transaction, on the reading request's thread or on the
+        // revalidation executor, and the streaming query needs one to keep its cursor open
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public LocaleBundle loadBundle(String localeCode) {
+        // Stamp the version before reading, so a write committed mid-load leaves this bundle visibly stale
+        long version = bundleVersions.current(localeCode);
+        return transactionTemplate.execute(status -> {
+            LocaleInfo localeInfo = referenceDictionary.findLocale(localeCode)
+                    .orElseThrow(() -> new ResourceNotFoundException("Locale not found with code: " + localeCode));
+            Locale locale = localeRepository.getReferenceById(localeInfo.getId());
+
+            // Only (key, content) pairs are read, so no entities, snapshots or timestamps are held per row
+            Map<String, String> translationMap = new HashMap<>();
+            try (Stream<TranslationEntryDTO> entries = translationRepository.streamEntriesByLocale(locale)) {
+                entries.forEach(entry -> translationMap.put(entry.getKey(), entry.getContent()));
+            }
+
+            // Deletes change the bundle too, so the latest tombstone counts towards Last-Modified
+            LocalDateTime lastUpdated = translationRepository.findLastModifiedByLocale(locale).orElse(null);
+            LocalDateTime lastDeleted = tombstoneRepository.findLastDeletedByLocale(locale).orElse(null);
+            LocalDateTime latest = lastDeleted != null && (lastUpdated == null || lastDeleted.isAfter(lastUpdated))
+                    ? lastDeleted : lastUpdated;
+            Instant lastModified = latest != null ? latest.atZone(ZoneId.systemDefault()).toInstant() : null;
+
+            // Keys shared with other locales' bundles are held once
+            return new LocaleBundle(localeCode, version, CompactTranslations.of(translationMap, keyDictionary), lastModified);
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.translationservice.cache;
+
+import com.translationservice.model.Locale;
+
+/**
+ * Immutable copy of a locale row, safe to share between threads and sessions.
+ */
+public final class LocaleInfo {
+
+    private final Long id;
+    private final String code;
+    private final String name;
+
+    public LocaleInfo(Long id, String code, String name) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+    }
+
+    public static LocaleInfo of(Locale locale) {
+        return new LocaleInfo(locale.getId(), locale.getCode(), locale.getName());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,153 @@
+package com.translationservice.cache;
+
+import com.translationservice.model.Locale;
+import com.translationservice.repository.Collation;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TagJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory dictionary of locales and tags, so that codes, names and ids can be resolved without
+ * a round trip. Readers see an immutable snapshot; every change copies it and publishes the copy.
+ *
+ * <p>The snapshot is loaded when the application is ready. Locales and tags are never renamed or
+ * deleted, so entries only need adding: a locale missing from the snapshot is looked up once and
+ * merged in, and {@link #putTags(Collection)} records tags as they are created. Tags are found by
+ * {@linkplain Collation#key(String) collation key}, the way the database compares their names.
+ */
+@Component
+public class ReferenceDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDictionary.class);
+
+    private final LocaleRepository localeRepository;
+    private final TagJdbcRepository tagJdbcRepository;
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ReferenceDictionary(LocaleRepository localeRepository, TagJdbcRepository tagJdbcRepository) {
+        this.localeRepository = localeRepository;
+        this.tagJdbcRepository = tagJdbcRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Replaces the snapshot with all locales and tags currently in the database.
+     */
+    public void refresh() {
+        Map<String, LocaleInfo> byCode = new HashMap<>();
+        for (Locale locale : localeRepository.findAll()) {
+            byCode.put(locale.getCode(), LocaleInfo.of(locale));
+        }
+        Map<String, TagInfo> tagsByKey = new HashMap<>();
+        tagJdbcRepository.findAllIds().forEach((name, id) -> tagsByKey.put(Collation.key(name), new TagInfo(id, name)));
+        synchronized (writeLock) {
+            // Entries merged in while loading are kept; they may have been committed after the load began
+            Snapshot current = snapshot;
+            current.localesByCode.forEach(byCode::putIfAbsent);
+            current.tagsByKey.forEach(tagsByKey::putIfAbsent);
+            snapshot = new Snapshot(byCode, tagsByKey, true);
+        }
+        log.info("Reference dictionary loaded with {} locales and {} tags", byCode.size(), tagsByKey.size());
+    }
+
+    public Optional<LocaleInfo> findLocale(String code) {
+        LocaleInfo info = snapshot.localesByCode.get(code);
+        if (info != null) {
+            return Optional.of(info);
+        }
+        return localeRepository.findByCode(code).map(this::add);
+    }
+
+    /**
+     * The dictionary entry for a locale the caller already holds, typically a lazy reference from a
+     * translation. Only the id is read, so a known locale is described without initializing it.
+     */
+    public LocaleInfo describe(Locale locale) {
+        LocaleInfo info = snapshot.localesById.get(locale.getId());
+        return info != null ? info : add(locale);
+    }
+
+    /**
+     * All locales, ordered by code.
+     */
+    public List<LocaleInfo> getLocales() {
+        Snapshot current = snapshot;
+        if (!current.complete) {
+            refresh();
+            current = snapshot;
+        }
+        return current.locales;
+    }
+
+    /**
+     * The tag the database would match to the given name, or null if it is not known here.
+     */
+    public TagInfo findTag(String name) {
+        return snapshot.tagsByKey.get(Collation.key(name));
+    }
+
+    public void putTags(Collection<TagInfo> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            Map<String, TagInfo> tagsByKey = new HashMap<>(current.tagsByKey);
+            tags.forEach(tag -> tagsByKey.put(Collation.key(tag.getName()), tag));
+            snapshot = new Snapshot(current.localesByCode, tagsByKey, current.complete);
+        }
+    }
+
+    private LocaleInfo add(Locale locale) {
+        LocaleInfo info = LocaleInfo.of(locale);
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            Map<String, LocaleInfo> byCode = new HashMap<>(current.localesByCode);
+            byCode.put(info.getCode(), info);
+            snapshot = new Snapshot(byCode, current.tagsByKey, current.complete);
+        }
+        return info;
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), false);
+
+        private final Map<String, LocaleInfo> localesByCode;
+        private final Map<Long, LocaleInfo> localesById;
+        private final List<LocaleInfo> locales;
+        private final Map<String, TagInfo> tagsByKey;
+        // Whether the snapshot was loaded in full, rather than only merged into
+        private final boolean complete;
+
+        private Snapshot(Map<String, LocaleInfo> localesByCode, Map<String, TagInfo> tagsByKey, boolean complete) {
+            Map<Long, LocaleInfo> byId = new HashMap<>();
+            localesByCode.values().forEach(info -> byId.put(info.getId(), info));
+            this.localesByCode = Collections.unmodifiableMap(localesByCode);
+            this.localesById = Collections.unmodifiableMap(byId);
+            this.locales = localesByCode.values().stream()
+                    .sorted(Comparator.comparing(LocaleInfo::getCode))
+                    .toList();
+            this.tagsByKey = Collections.unmodifiableMap(tagsByKey);
+            this.complete = complete;
+        }
+    }
+}
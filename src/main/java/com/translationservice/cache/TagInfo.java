@@ -0,0 +1,26 @@
+package com.translationservice.cache;
+
+/**
+ * Immutable copy of a tag row, safe to share between threads and sessions.
+ */
+public final class TagInfo {
+
+    private final Long id;
+    private final String name;
+
+    public TagInfo(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * The name as stored, which may differ in case or accents from the name it was resolved by.
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,65 @@
+package com.translationservice.cache;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TranslationExport {
+    private final Map<String, Map<String, String>> translations;
+    private final String eTag;
+    private final Instant lastModified;
+    private final BundleBody body;
+
+    public TranslationExport(List<LocaleBundle> bundles) {
+        Map<String, Map<String, String>> byLocale = new LinkedHashMap<>();
+        ContentHash hash = new ContentHash();
+        Instant latest = null;
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+
+        // The export body is stitched together from the already serialized locale bodies
+        json.write('{');
+        for (LocaleBundle bundle : bundles) {
+            if (!byLocale.isEmpty()) {
+                json.write(',');
+            }
+            byLocale.put(bundle.getLocaleCode(), bundle.getTranslations());
+            json.write('"');
+            json.writeBytes(JsonStringEncoder.getInstance().quoteAsUTF8(bundle.getLocaleCode()));
+            json.write('"');
+            json.write(':');
+            json.writeBytes(bundle.getBody().getJson());
+
+            hash.add(bundle.getLocaleCode()).add(bundle.getETag());
+            if (bundle.getLastModified() != null && (latest == null || bundle.getLastModified().isAfter(latest))) {
+                latest = bundle.getLastModified();
+            }
+        }
+        json.write('}');
+
+        this.translations = Collections.unmodifiableMap(byLocale);
+        this.eTag = hash.toETag();
+        this.lastModified = latest;
+        this.body = BundleBody.of(json.toByteArray());
+    }
+
+    public Map<String, Map<String, String>> getTranslations() {
+        return translations;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public BundleBody getBody() {
+        return body;
+    }
+}
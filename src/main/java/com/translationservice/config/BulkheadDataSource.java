@@ -0,0 +1,123 @@
+package com.translationservice.config;
+
+import com.translationservice.exception.DatabaseBusyException;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits how many threads hold a connection at once. Callers beyond the limit wait on a fair semaphore,
+ * which costs a virtual thread next to nothing, instead of piling up inside the connection pool; a caller
+ * that waits longer than the timeout gets a {@link DatabaseBusyException}.
+ *
+ * <p>A thread that already holds a permit opens further connections, such as those of a
+ * {@code REQUIRES_NEW} transaction, without taking another one, so nested transactions cannot deadlock
+ * on the bulkhead. Leave the pool a few connections more than the permits for them.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutNanos;
+    private final ThreadLocal<int[]> held = ThreadLocal.withInitial(() -> new int[1]);
+
+    public BulkheadDataSource(DataSource targetDataSource, int maxPermits, Duration timeout) {
+        super(targetDataSource);
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("Bulkhead permits must be positive: " + maxPermits);
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return guard(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return guard(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        int[] depth = held.get();
+        if (depth[0] == 0) {
+            acquire();
+        }
+        depth[0]++;
+        try {
+            return releasingOnClose(supplier.get(), depth);
+        } catch (SQLException | RuntimeException e) {
+            release(depth);
+            throw e;
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new DatabaseBusyException("Timed out waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database connection");
+        }
+    }
+
+    // Connections are closed on the thread that opened them, so the count is that thread's
+    private void release(int[] depth) {
+        depth[0]--;
+        if (depth[0] == 0) {
+            permits.release();
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection, int[] depth) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) {
+                                release(depth);
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
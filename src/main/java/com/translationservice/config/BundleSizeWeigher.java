@@ -0,0 +1,61 @@
+package com.translationservice.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.TranslationResponseDTO;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class BundleSizeWeigher implements Weigher<Object, Object> {
+
+    private static final int UNKNOWN_VALUE_SIZE = 64;
+    private static final int DTO_OVERHEAD = 160;
+
+    // Approximates the JSON size so maximumWeight bounds caches in bytes rather than entries
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(estimateSize(key) + estimateSize(value), Integer.MAX_VALUE);
+    }
+
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() + 2;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof LocaleBundle bundle) {
+            // Weighed before its body is built: the JSON is about the translations' estimate, and the gzip copy
+            // is counted as a quarter of that
+            long translations = estimateSize(bundle.getTranslations());
+            return translations * 2 + translations / 4;
+        }
+        if (value instanceof TranslationExport export) {
+            return estimateSize(export.getTranslations()) + export.getBody().size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue()) + 2;
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 2;
+            for (Object element : collection) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+        if (value instanceof TranslationResponseDTO dto) {
+            return DTO_OVERHEAD + estimateSize(dto.getKey()) + estimateSize(dto.getContent())
+                    + estimateSize(dto.getLocaleName()) + estimateSize(dto.getTags());
+        }
+        return UNKNOWN_VALUE_SIZE;
+    }
+}
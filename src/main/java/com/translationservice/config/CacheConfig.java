@@ -1,21 +1,67 @@
 package com.translationservice.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    static final List<String> CACHE_NAMES = List.of("translations", "translationsByLocale", "allTranslationsJson");
+
+    static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=600s";
+
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(Arrays.asList("translations", "translationsByLocale", "allTranslationsJson"));
+    public CacheManager cacheManager(Environment environment) {
+        String defaultSpec = environment.getProperty("spring.cache.caffeine.spec", DEFAULT_SPEC);
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Only the caches declared here exist; unknown names must not fall back to unbounded caches
+        cacheManager.setCacheNames(Collections.emptyList());
+        for (String cacheName : CACHE_NAMES) {
+            String spec = environment.getProperty("app.cache.specs." + cacheName, defaultSpec);
+            cacheManager.registerCustomCache(cacheName, buildCache(cacheName, spec));
+        }
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    /**
+     * Threads for the background bundle loads of {@code app.cache.bundle.stale-while-revalidate}. Each
+     * load reads a whole locale over JDBC, so they get a small pool of their own instead of the common
+     * pool, and at most {@code app.cache.bundle.revalidation-threads} of them hold a connection at once.
+     * Loads are single-flight per locale, so no more than one per locale is ever queued. Threads are
+     * virtual when requests are.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bundleRevalidationExecutor(Environment environment) {
+        int threads = environment.getProperty("app.cache.bundle.revalidation-threads", Integer.class, 2);
+        ThreadFactory threadFactory = environment.getProperty("app.threads.virtual.enabled", Boolean.class, false)
+                ? Thread.ofVirtual().name("bundle-revalidation-", 0).factory()
+                : Thread.ofPlatform().name("bundle-revalidation-", 0).daemon().factory();
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    static Cache<Object, Object> buildCache(String cacheName, String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder = builder.weigher(new BundleSizeWeigher());
+        }
+        // No cache has a loader: locale bundles are reloaded by LocaleBundleCache when their version is stale
+        if (spec.contains("refreshAfterWrite")) {
+            throw new IllegalStateException("Cache " + cacheName + " uses refreshAfterWrite but has no cache loader");
+        }
+        return builder.build();
+    }
+}
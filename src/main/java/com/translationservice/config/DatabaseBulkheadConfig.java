@@ -0,0 +1,58 @@
+package com.translationservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts the data source behind a {@link BulkheadDataSource} when {@code app.db.bulkhead.enabled} is set.
+ * Meant for the virtual-thread mode, where the number of in-flight requests is no longer capped by a
+ * thread pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkheadConfig {
+
+    // Static, so the post-processor is registered before the data source is created
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                int permits = environment.getProperty("app.db.bulkhead.permits", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                Duration timeout = environment.getProperty("app.db.bulkhead.acquire-timeout", Duration.class,
+                        Duration.ofSeconds(10));
+                return new BulkheadDataSource(dataSource, permits, timeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof BulkheadDataSource bulkhead)) {
+                return;
+            }
+            Gauge.builder("db.bulkhead.permits.max", bulkhead, BulkheadDataSource::getMaxPermits)
+                    .description("Connections the bulkhead lets threads hold at once")
+                    .register(registry);
+            Gauge.builder("db.bulkhead.permits.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                    .description("Bulkhead permits currently free")
+                    .register(registry);
+            Gauge.builder("db.bulkhead.queued", bulkhead, BulkheadDataSource::getQueueLength)
+                    .description("Threads waiting for a bulkhead permit")
+                    .register(registry);
+        };
+    }
+}
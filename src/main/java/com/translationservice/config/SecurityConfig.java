@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -40,6 +41,8 @@ public class SecurityConfig {
                         auth
                                 // Permit access to Swagger UI and API docs
                                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                                // Health and metrics for probes and the Prometheus scraper, on the management port
+                                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                                 // If you want to temporarily allow all endpoints for testing
                                 .anyRequest().authenticated()
                 )
@@ -1,8 +1,15 @@
 package com.translationservice.controller;
 
+import com.translationservice.cache.BundleBody;
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.BulkImportResultDTO;
+import com.translationservice.dto.CursorPageDTO;
 import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationDeltaDTO;
 import com.translationservice.dto.TranslationRequestDTO;
 import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.service.BulkImportService;
 import com.translationservice.service.TranslationService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -10,12 +17,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/translations")
@@ -23,9 +36,11 @@ import java.util.Map;
 public class TranslationController {
 
     private final TranslationService translationService;
+    private final BulkImportService bulkImportService;
 
-    public TranslationController(TranslationService translationService) {
+    public TranslationController(TranslationService translationService, BulkImportService bulkImportService) {
         this.translationService = translationService;
+        this.bulkImportService = bulkImportService;
     }
 
     @PostMapping
@@ -33,6 +48,14 @@ public class TranslationController {
         return new ResponseEntity<>(translationService.createTranslation(requestDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResultDTO> bulkImportTranslations(
+            InputStream body,
+            @RequestParam(defaultValue = "false") boolean upsert
+    ) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importTranslations(body, upsert));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TranslationResponseDTO> updateTranslation(@PathVariable Long id, @Valid @RequestBody TranslationRequestDTO requestDTO) {
         return ResponseEntity.ok(translationService.updateTranslation(id, requestDTO));
@@ -58,14 +81,45 @@ public class TranslationController {
         return ResponseEntity.ok(translationService.getAllTranslations(pageable));
     }
 
-    @GetMapping("/locale/{localeCode}")
-    public ResponseEntity<Map<String, String>> getTranslationsByLocale(@PathVariable String localeCode) {
-        return ResponseEntity.ok(translationService.getTranslationsByLocale(localeCode));
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDTO<TranslationResponseDTO>> scrollTranslations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean count
+    ) {
+        return ResponseEntity.ok(translationService.scrollTranslations(cursor, size, count));
+    }
+
+    @GetMapping(value = "/locale/{localeCode}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTranslationsByLocale(
+            @PathVariable String localeCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        LocaleBundle bundle = translationService.getLocaleBundle(localeCode);
+        return bodyResponse(bundle.getBody(), bundle.getETag(), bundle.getLastModified(), acceptEncoding);
     }
 
-    @GetMapping("/export")
-    public ResponseEntity<Map<String, Map<String, String>>> getAllTranslationsJson() {
-        return ResponseEntity.ok(translationService.getAllTranslationsJson());
+    @GetMapping("/locale/{localeCode}/delta")
+    public ResponseEntity<TranslationDeltaDTO> getTranslationDelta(
+            @PathVariable String localeCode,
+            @RequestParam(required = false) Instant since
+    ) {
+        return ResponseEntity.ok(translationService.getTranslationDelta(localeCode, since));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllTranslationsJson(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        TranslationExport export = translationService.getTranslationExport();
+        return bodyResponse(export.getBody(), export.getETag(), export.getLastModified(), acceptEncoding);
+    }
+
+    @GetMapping(value = "/export", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllTranslationsJson() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(translationService::exportTranslations);
     }
 
     @PostMapping("/search")
@@ -73,6 +127,15 @@ public class TranslationController {
         return ResponseEntity.ok(translationService.searchTranslations(searchRequest));
     }
 
+    @PostMapping("/search/scroll")
+    public ResponseEntity<CursorPageDTO<TranslationResponseDTO>> scrollSearchTranslations(
+            @RequestBody SearchRequestDTO searchRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count
+    ) {
+        return ResponseEntity.ok(translationService.scrollSearchTranslations(searchRequest, cursor, count));
+    }
+
     @GetMapping("/tag/{tagName}")
     public ResponseEntity<List<TranslationResponseDTO>> getTranslationsByTagName(@PathVariable String tagName) {
         return ResponseEntity.ok(translationService.getTranslationsByTagName(tagName));
@@ -93,4 +156,52 @@ public class TranslationController {
         translationService.deleteTranslation(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // Bodies are serialized and gzipped once per bundle version; each request only picks the representation
+    private ResponseEntity<byte[]> bodyResponse(BundleBody body, String eTag, Instant lastModified, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // Spring answers If-None-Match / If-Modified-Since from these headers with a bodiless 304
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? eTag + "-gzip" : eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? body.getGzip() : body.getJson());
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip")) {
+                gzip = accepted;
+            } else if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        // An explicit gzip entry wins over the wildcard
+        return gzip != null ? gzip : wildcard;
+    }
+}
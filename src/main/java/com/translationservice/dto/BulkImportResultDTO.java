@@ -0,0 +1,49 @@
+package com.translationservice.dto;
+
+import java.util.List;
+
+public class BulkImportResultDTO {
+    private final int total;
+    private final int created;
+    private final int updated;
+    private final int failed;
+    private final List<BulkImportRowResultDTO> results;
+
+    public BulkImportResultDTO(List<BulkImportRowResultDTO> results) {
+        int createdCount = 0;
+        int updatedCount = 0;
+        int failedCount = 0;
+        for (BulkImportRowResultDTO result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> createdCount++;
+                case UPDATED -> updatedCount++;
+                case FAILED -> failedCount++;
+            }
+        }
+        this.total = results.size();
+        this.created = createdCount;
+        this.updated = updatedCount;
+        this.failed = failedCount;
+        this.results = results;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<BulkImportRowResultDTO> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,52 @@
+package com.translationservice.dto;
+
+public class BulkImportRowResultDTO {
+
+    public enum Status {
+        CREATED, UPDATED, FAILED
+    }
+
+    private final int index;
+    private final String key;
+    private final String localeCode;
+    private final Status status;
+    private final Long id;
+    private final String message;
+
+    public BulkImportRowResultDTO(int index, String key, String localeCode, Status status, Long id, String message) {
+        this.index = index;
+        this.key = key;
+        this.localeCode = localeCode;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    public static BulkImportRowResultDTO failed(int index, String key, String localeCode, String message) {
+        return new BulkImportRowResultDTO(index, key, localeCode, Status.FAILED, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLocaleCode() {
+        return localeCode;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,50 @@
+package com.translationservice.dto;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final Long totalElements;
+    private final SearchFacetsDTO facets;
+
+    public CursorPageDTO(List<T> content, int size, String nextCursor, Long totalElements) {
+        this(content, size, nextCursor, totalElements, null);
+    }
+
+    public CursorPageDTO(List<T> content, int size, String nextCursor, Long totalElements, SearchFacetsDTO facets) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+        this.facets = facets;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    // Null on the last page
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    // Only filled in when the count was requested
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    // Only filled in when facets were requested
+    public SearchFacetsDTO getFacets() {
+        return facets;
+    }
+}
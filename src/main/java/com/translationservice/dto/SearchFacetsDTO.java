@@ -0,0 +1,33 @@
+package com.translationservice.dto;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SearchFacetsDTO {
+    private final Map<String, Long> tags;
+    private final Map<String, Long> locales;
+
+    public SearchFacetsDTO(Map<String, Long> tags, Map<String, Long> locales) {
+        this.tags = byCountDescending(tags);
+        this.locales = byCountDescending(locales);
+    }
+
+    // Number of matching translations per tag, most frequent first
+    public Map<String, Long> getTags() {
+        return tags;
+    }
+
+    // Number of matching translations per locale code, most frequent first
+    public Map<String, Long> getLocales() {
+        return locales;
+    }
+
+    private static Map<String, Long> byCountDescending(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
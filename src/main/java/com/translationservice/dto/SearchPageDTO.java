@@ -0,0 +1,23 @@
+package com.translationservice.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A search result page that can carry facet counts over the whole result next to the page itself.
+ */
+public class SearchPageDTO<T> extends PageImpl<T> {
+    private final SearchFacetsDTO facets;
+
+    public SearchPageDTO(List<T> content, Pageable pageable, long total, SearchFacetsDTO facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+
+    // Only filled in when facets were requested
+    public SearchFacetsDTO getFacets() {
+        return facets;
+    }
+}
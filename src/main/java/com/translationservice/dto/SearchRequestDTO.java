@@ -9,6 +9,7 @@ public class SearchRequestDTO {
     private List<String> tags;
     private Integer page;
     private Integer size;
+    private Boolean facets;
 
     public SearchRequestDTO() {
     }
@@ -22,6 +23,11 @@ public class SearchRequestDTO {
         this.size = size;
     }
 
+    public SearchRequestDTO(String key, String content, String localeCode, List<String> tags, Integer page, Integer size, Boolean facets) {
+        this(key, content, localeCode, tags, page, size);
+        this.facets = facets;
+    }
+
     public static SearchRequestDTOBuilder builder() {
         return new SearchRequestDTOBuilder();
     }
@@ -75,6 +81,14 @@ public class SearchRequestDTO {
         this.size = size;
     }
 
+    public Boolean getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Boolean facets) {
+        this.facets = facets;
+    }
+
     // Builder class
     public static class SearchRequestDTOBuilder {
         private String key;
@@ -83,6 +97,7 @@ public class SearchRequestDTO {
         private List<String> tags;
         private Integer page;
         private Integer size;
+        private Boolean facets;
 
         SearchRequestDTOBuilder() {
         }
@@ -117,8 +132,13 @@ public class SearchRequestDTO {
             return this;
         }
 
+        public SearchRequestDTOBuilder facets(Boolean facets) {
+            this.facets = facets;
+            return this;
+        }
+
         public SearchRequestDTO build() {
-            return new SearchRequestDTO(key, content, localeCode, tags, page, size);
+            return new SearchRequestDTO(key, content, localeCode, tags, page, size, facets);
         }
     }
 }
\ No newline at end of file
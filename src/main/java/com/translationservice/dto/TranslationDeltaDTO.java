@@ -0,0 +1,43 @@
+package com.translationservice.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class TranslationDeltaDTO {
+    private final String localeCode;
+    private final Map<String, String> changed;
+    private final List<String> deleted;
+    private final Instant cursor;
+    // The whole locale rather than the changes: replace the local copy instead of merging
+    private final boolean full;
+
+    public TranslationDeltaDTO(String localeCode, Map<String, String> changed, List<String> deleted, Instant cursor,
+                               boolean full) {
+        this.localeCode = localeCode;
+        this.changed = changed;
+        this.deleted = deleted;
+        this.cursor = cursor;
+        this.full = full;
+    }
+
+    public String getLocaleCode() {
+        return localeCode;
+    }
+
+    public Map<String, String> getChanged() {
+        return changed;
+    }
+
+    public List<String> getDeleted() {
+        return deleted;
+    }
+
+    public Instant getCursor() {
+        return cursor;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+}
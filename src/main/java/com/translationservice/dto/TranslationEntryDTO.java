@@ -0,0 +1,19 @@
+package com.translationservice.dto;
+
+public class TranslationEntryDTO {
+    private final String key;
+    private final String content;
+
+    public TranslationEntryDTO(String key, String content) {
+        this.key = key;
+        this.content = content;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
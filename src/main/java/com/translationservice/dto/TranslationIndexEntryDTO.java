@@ -0,0 +1,31 @@
+package com.translationservice.dto;
+
+public class TranslationIndexEntryDTO {
+    private final Long id;
+    private final String key;
+    private final String content;
+    private final String localeCode;
+
+    public TranslationIndexEntryDTO(Long id, String key, String content, String localeCode) {
+        this.id = id;
+        this.key = key;
+        this.content = content;
+        this.localeCode = localeCode;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public String getLocaleCode() {
+        return localeCode;
+    }
+}
@@ -0,0 +1,19 @@
+package com.translationservice.dto;
+
+public class TranslationTagLinkDTO {
+    private final Long translationId;
+    private final String tagName;
+
+    public TranslationTagLinkDTO(Long translationId, String tagName) {
+        this.translationId = translationId;
+        this.tagName = tagName;
+    }
+
+    public Long getTranslationId() {
+        return translationId;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+}
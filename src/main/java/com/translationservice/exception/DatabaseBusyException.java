@@ -0,0 +1,8 @@
+package com.translationservice.exception;
+
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
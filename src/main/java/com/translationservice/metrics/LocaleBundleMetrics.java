@@ -0,0 +1,60 @@
+package com.translationservice.metrics;
+
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges of the cached bundle per locale: its number of translations and the size of its serialized
+ * body. A locale whose bundle is not cached reports zero, as does the size of a bundle whose body no
+ * request has built yet: a scrape never serializes a bundle. Gauges are registered for the locales
+ * known when the application becomes ready.
+ */
+@Component
+public class LocaleBundleMetrics {
+
+    static final String ENTRIES_METRIC = "translation.bundle.entries";
+    static final String SIZE_METRIC = "translation.bundle.size";
+
+    private final LocaleBundleCache localeBundleCache;
+    private final ReferenceDictionary referenceDictionary;
+    private final MeterRegistry meterRegistry;
+
+    public LocaleBundleMetrics(LocaleBundleCache localeBundleCache, ReferenceDictionary referenceDictionary,
+                               MeterRegistry meterRegistry) {
+        this.localeBundleCache = localeBundleCache;
+        this.referenceDictionary = referenceDictionary;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        for (LocaleInfo locale : referenceDictionary.getLocales()) {
+            register(locale.getCode());
+        }
+    }
+
+    void register(String localeCode) {
+        Gauge.builder(ENTRIES_METRIC, localeBundleCache, cache -> {
+                    LocaleBundle bundle = cache.getCachedBundle(localeCode);
+                    return bundle != null ? bundle.getTranslations().size() : 0;
+                })
+                .description("Translations in the cached locale bundle")
+                .tag("locale", localeCode)
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, localeBundleCache, cache -> {
+                    LocaleBundle bundle = cache.getCachedBundle(localeCode);
+                    return bundle != null ? bundle.getBuiltBodySize() : 0;
+                })
+                .description("Serialized size of the cached locale bundle")
+                .baseUnit("bytes")
+                .tag("locale", localeCode)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.translationservice.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}. Statements outside such a window, e.g. at startup, are not counted; neither are
+ * statements issued through plain JDBC.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * Ends the window on this thread and returns the number of statements prepared in it.
+     */
+    public int stop() {
+        int[] statements = count.get();
+        count.remove();
+        return statements != null ? statements[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] statements = count.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,52 @@
+package com.translationservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many Hibernate statements each request prepared, tagged like {@code http.server.requests}
+ * with the method and URI template, so an endpoint that starts issuing a query per row shows up as a
+ * growing count rather than only as latency.
+ */
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "hibernate.statements.per.request";
+
+    private final StatementCountingInspector statementCountingInspector;
+    private final MeterRegistry meterRegistry;
+
+    public StatementMetricsFilter(StatementCountingInspector statementCountingInspector, MeterRegistry meterRegistry) {
+        this.statementCountingInspector = statementCountingInspector;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCountingInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCountingInspector.stop();
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Hibernate statements prepared per HTTP request")
+                    .tags("method", request.getMethod(), "uri", uri(request))
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    // The URI template keeps the number of tag values bounded; unmatched requests share one value
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
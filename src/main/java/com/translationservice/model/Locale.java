@@ -1,14 +1,19 @@
 package com.translationservice.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "locales")
+@BatchSize(size = 100)
 public class Locale {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "locale_ids")
+    @TableGenerator(name = "locale_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "locales", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 10)
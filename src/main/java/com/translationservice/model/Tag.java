@@ -10,7 +10,9 @@ import java.util.Set;
 public class Tag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tag_ids")
+    @TableGenerator(name = "tag_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "tags", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -1,6 +1,8 @@
 package com.translationservice.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -15,7 +17,9 @@ import java.util.Set;
 public class Translation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "translation_ids")
+    @TableGenerator(name = "translation_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "translations", allocationSize = 50)
     private Long id;
 
     @Column(name = "translation_key", nullable = false)
@@ -28,6 +32,8 @@ public class Translation {
     @JoinColumn(name = "locale_id", nullable = false)
     private Locale locale;
 
+    // Lists map every row's tags, so uninitialized tag sets are loaded 100 owners per query
+    @BatchSize(size = 100)
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
             name = "translation_tags",
@@ -0,0 +1,71 @@
+package com.translationservice.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_tombstones")
+public class TranslationTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tombstone_ids")
+    @TableGenerator(name = "tombstone_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "translation_tombstones", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "translation_key", nullable = false)
+    private String key;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "locale_id", nullable = false)
+    private Locale locale;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TranslationTombstone() {
+    }
+
+    public TranslationTombstone(String key, Locale locale) {
+        this.key = key;
+        this.locale = locale;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
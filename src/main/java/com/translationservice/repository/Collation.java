@@ -0,0 +1,26 @@
+package com.translationservice.repository;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Equality of strings as the database's text columns decide it, for matching in memory what the
+ * database already treats as one value.
+ */
+public final class Collation {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private Collation() {
+    }
+
+    /**
+     * The value lower-cased with its accents stripped, approximating how MySQL 8's default
+     * {@code utf8mb4_0900_ai_ci} collation decides that two values are equal.
+     */
+    public static String key(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
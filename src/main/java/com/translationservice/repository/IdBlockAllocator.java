@@ -0,0 +1,54 @@
+package com.translationservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands out contiguous id ranges from the {@code id_generators} table that the entities'
+ * pooled-lo table generators use, so rows written over plain JDBC never collide with
+ * ids Hibernate allocates.
+ */
+@Repository
+public class IdBlockAllocator {
+
+    public static final String TRANSLATIONS = "translations";
+    public static final String TAGS = "tags";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Committed on its own, like Hibernate's generator, so the row lock is not held for the caller's transaction
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reserves {@code count} ids and returns the first one; the range is {@code [first, first + count)}.
+     */
+    public long allocate(String sequenceName, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        Long first = transactionTemplate.execute(status -> {
+            while (true) {
+                Long current = jdbcTemplate.queryForObject(
+                        "SELECT next_val FROM id_generators WHERE sequence_name = ? FOR UPDATE", Long.class, sequenceName);
+                if (current == null) {
+                    throw new IllegalStateException("No id generator row for: " + sequenceName);
+                }
+                int updated = jdbcTemplate.update(
+                        "UPDATE id_generators SET next_val = ? WHERE sequence_name = ? AND next_val = ?",
+                        current + count, sequenceName, current);
+                if (updated == 1) {
+                    return current;
+                }
+            }
+        });
+        return first;
+    }
+}
@@ -0,0 +1,68 @@
+package com.translationservice.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based tag lookups and inserts for resolving many tag names in one round trip.
+ */
+@Repository
+public class TagJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TagJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Map<String, Long> findAllIds() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags",
+                rs -> { ids.put(rs.getString("name"), rs.getLong("id")); });
+        return ids;
+    }
+
+    /**
+     * Ids of the tags matching the given names, keyed by the names as stored. The name column compares
+     * case- and accent-insensitively, so "Mobile" finds the tag stored as "mobile"; callers match the
+     * stored names back to theirs by {@link Collation#key(String)}.
+     */
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query("SELECT id, name FROM tags WHERE name IN (:names)",
+                new MapSqlParameterSource("names", names),
+                rs -> { ids.put(rs.getString("name"), rs.getLong("id")); });
+        return ids;
+    }
+
+    /**
+     * Inserts the names with ids {@code firstId, firstId + 1, ...}, as reserved from {@link IdBlockAllocator},
+     * skipping names that already exist. A name inserted concurrently by a transaction that has not
+     * committed yet still fails with a duplicate key once that transaction commits.
+     */
+    public void insertMissing(long firstId, List<String> names, LocalDateTime now) {
+        SqlParameterSource[] params = new SqlParameterSource[names.size()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = new MapSqlParameterSource()
+                    .addValue("id", firstId + i)
+                    .addValue("name", names.get(i))
+                    .addValue("now", Timestamp.valueOf(now));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tags (id, name, created_at, updated_at) " +
+                        "SELECT :id, :name, :now, :now FROM DUAL " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM tags WHERE name = :name)",
+                params);
+    }
+}
@@ -0,0 +1,117 @@
+package com.translationservice.repository;
+
+import com.translationservice.dto.TranslationEntryDTO;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC batch statements for bulk writes, which would otherwise go through
+ * Hibernate one row at a time.
+ */
+@Repository
+public class TranslationJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TranslationJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Ids of the locale's translations matching the given keys, keyed by the keys as stored. The key
+     * column compares case- and accent-insensitively, so callers match the stored keys back to theirs
+     * by {@link Collation#key(String)}.
+     */
+    public Map<String, Long> findIdsByLocaleAndKeys(Long localeId, Collection<String> keys) {
+        Map<String, Long> ids = new HashMap<>();
+        if (keys.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("localeId", localeId)
+                .addValue("keys", keys);
+        jdbcTemplate.query("SELECT id, translation_key FROM translations " +
+                        "WHERE locale_id = :localeId AND translation_key IN (:keys)",
+                params,
+                rs -> { ids.put(rs.getString("translation_key"), rs.getLong("id")); });
+        return ids;
+    }
+
+    /**
+     * Inserts the entries with ids {@code firstId, firstId + 1, ...}, as reserved from {@link IdBlockAllocator}.
+     */
+    public void batchInsert(long firstId, Long localeId, List<TranslationEntryDTO> entries, LocalDateTime now) {
+        SqlParameterSource[] params = entryParams(localeId, entries, now);
+        for (int i = 0; i < params.length; i++) {
+            ((MapSqlParameterSource) params[i]).addValue("id", firstId + i);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO translations (id, translation_key, content, locale_id, created_at, updated_at) " +
+                        "VALUES (:id, :key, :content, :localeId, :now, :now)",
+                params);
+    }
+
+    public void batchUpdate(Long localeId, List<TranslationEntryDTO> entries, LocalDateTime now) {
+        jdbcTemplate.batchUpdate("UPDATE translations SET content = :content, updated_at = :now " +
+                        "WHERE locale_id = :localeId AND translation_key = :key",
+                entryParams(localeId, entries, now));
+    }
+
+    /**
+     * Deletes every translation and its tag links in two statements, without loading any rows.
+     *
+     * @return the number of translations deleted
+     */
+    public int deleteAll() {
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM translation_tags");
+        return jdbcTemplate.getJdbcTemplate().update("DELETE FROM translations");
+    }
+
+    public void deleteTagLinks(Collection<Long> translationIds) {
+        if (translationIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM translation_tags WHERE translation_id IN (:ids)",
+                new MapSqlParameterSource("ids", translationIds));
+    }
+
+    public void batchInsertTagLinks(Map<Long, Set<Long>> tagIdsByTranslationId) {
+        List<SqlParameterSource> links = new ArrayList<>();
+        tagIdsByTranslationId.forEach((translationId, tagIds) -> {
+            for (Long tagId : tagIds) {
+                links.add(new MapSqlParameterSource()
+                        .addValue("translationId", translationId)
+                        .addValue("tagId", tagId));
+            }
+        });
+        if (links.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO translation_tags (translation_id, tag_id) VALUES (:translationId, :tagId)",
+                links.toArray(new SqlParameterSource[0]));
+    }
+
+    private SqlParameterSource[] entryParams(Long localeId, List<TranslationEntryDTO> entries, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        SqlParameterSource[] params = new SqlParameterSource[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            TranslationEntryDTO entry = entries.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("key", entry.getKey())
+                    .addValue("content", entry.getContent())
+                    .addValue("localeId", localeId)
+                    .addValue("now", timestamp);
+        }
+        return params;
+    }
+}
@@ -1,17 +1,26 @@
 package com.translationservice.repository;
 
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.dto.TranslationIndexEntryDTO;
+import com.translationservice.dto.TranslationTagLinkDTO;
 import com.translationservice.model.Locale;
 import com.translationservice.model.Translation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TranslationRepository extends JpaRepository<Translation, Long> {
@@ -20,6 +29,27 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
 
     List<Translation> findByLocale(Locale locale);
 
+    @Query("SELECT MAX(t.updatedAt) FROM Translation t WHERE t.locale = :locale")
+    Optional<LocalDateTime> findLastModifiedByLocale(@Param("locale") Locale locale);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.translationservice.dto.TranslationEntryDTO(t.key, t.content) FROM Translation t " +
+            "WHERE t.locale = :locale ORDER BY t.key")
+    Stream<TranslationEntryDTO> streamEntriesByLocale(@Param("locale") Locale locale);
+
+    @Query("SELECT new com.translationservice.dto.TranslationEntryDTO(t.key, t.content) FROM Translation t " +
+            "WHERE t.locale = :locale AND t.updatedAt > :since")
+    List<TranslationEntryDTO> findEntriesByLocaleUpdatedSince(@Param("locale") Locale locale, @Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.translationservice.dto.TranslationIndexEntryDTO(t.id, t.key, t.content, l.code) " +
+            "FROM Translation t JOIN t.locale l ORDER BY t.id")
+    Stream<TranslationIndexEntryDTO> streamIndexEntries();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.translationservice.dto.TranslationTagLinkDTO(t.id, tag.name) FROM Translation t JOIN t.tags tag")
+    Stream<TranslationTagLinkDTO> streamIndexTagLinks();
+
     @Query("SELECT t FROM Translation t JOIN t.tags tag WHERE tag.name = :tagName")
     List<Translation> findByTagName(@Param("tagName") String tagName);
 
@@ -38,7 +68,9 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
     @Query("SELECT t FROM Translation t WHERE t.content LIKE %:contentPattern%")
     List<Translation> findByContentContaining(@Param("contentPattern") String contentPattern);
 
-    @Query(value = "SELECT t.* FROM translations t " +
+    // Returns ids only: the page is hydrated by findAllWithLocaleAndTagsByIdIn, since rows read
+    // through a native query do not take part in Hibernate's batch fetching
+    @Query(value = "SELECT t.id FROM translations t " +
             "JOIN locales l ON t.locale_id = l.id " +
             "LEFT JOIN translation_tags tt ON t.id = tt.translation_id " +
             "LEFT JOIN tags tag ON tt.tag_id = tag.id " +
@@ -57,7 +89,7 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
                     "GROUP BY t.id " +
                     "HAVING (:tagCount IS NULL OR :tagCount = 0 OR COUNT(DISTINCT CASE WHEN tag.name IN :tagNames THEN tag.id ELSE NULL END) = :tagCount)",
             nativeQuery = true)
-    Page<Translation> searchTranslations(
+    Page<Long> searchTranslationIds(
             @Param("key") String key,
             @Param("content") String content,
             @Param("localeCode") String localeCode,
@@ -65,6 +97,95 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
             @Param("tagCount") Integer tagCount,
             Pageable pageable);
 
+    // Keyset page: seeks on the primary key, so every page costs the same however deep it is
+    @Query("SELECT t FROM Translation t WHERE t.id > :afterId ORDER BY t.id")
+    List<Translation> findPageAfterId(@Param("afterId") long afterId, Pageable limit);
+
+    @Query(value = "SELECT t.id FROM translations t " +
+            "JOIN locales l ON t.locale_id = l.id " +
+            "LEFT JOIN translation_tags tt ON t.id = tt.translation_id " +
+            "LEFT JOIN tags tag ON tt.tag_id = tag.id " +
+            "WHERE t.id > :afterId " +
+            "AND (:key IS NULL OR t.translation_key LIKE CONCAT('%', :key, '%')) " +
+            "AND (:content IS NULL OR t.content LIKE CONCAT('%', :content, '%')) " +
+            "AND (:localeCode IS NULL OR l.code = :localeCode) " +
+            "GROUP BY t.id " +
+            "HAVING (:tagCount IS NULL OR :tagCount = 0 OR COUNT(DISTINCT CASE WHEN tag.name IN :tagNames THEN tag.id ELSE NULL END) = :tagCount) " +
+            "ORDER BY t.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchTranslationIdsAfter(
+            @Param("key") String key,
+            @Param("content") String content,
+            @Param("localeCode") String localeCode,
+            @Param("tagNames") List<String> tagNames,
+            @Param("tagCount") Integer tagCount,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT t.id FROM translations t " +
+            "JOIN locales l ON t.locale_id = l.id " +
+            "LEFT JOIN translation_tags tt ON t.id = tt.translation_id " +
+            "LEFT JOIN tags tag ON tt.tag_id = tag.id " +
+            "WHERE (:key IS NULL OR t.translation_key LIKE CONCAT('%', :key, '%')) " +
+            "AND (:content IS NULL OR t.content LIKE CONCAT('%', :content, '%')) " +
+            "AND (:localeCode IS NULL OR l.code = :localeCode) " +
+            "GROUP BY t.id " +
+            "HAVING (:tagCount IS NULL OR :tagCount = 0 OR COUNT(DISTINCT CASE WHEN tag.name IN :tagNames THEN tag.id ELSE NULL END) = :tagCount)" +
+            ") matched",
+            nativeQuery = true)
+    long countSearchTranslations(
+            @Param("key") String key,
+            @Param("content") String content,
+            @Param("localeCode") String localeCode,
+            @Param("tagNames") List<String> tagNames,
+            @Param("tagCount") Integer tagCount);
+
+    // Facet counts over the same matches as searchTranslationIds: one [tag name, count] row per tag
+    @Query(value = "SELECT tag.name, COUNT(*) FROM translation_tags tt " +
+            "JOIN tags tag ON tt.tag_id = tag.id " +
+            "WHERE tt.translation_id IN (SELECT t.id FROM translations t " +
+            "JOIN locales l ON t.locale_id = l.id " +
+            "LEFT JOIN translation_tags stt ON t.id = stt.translation_id " +
+            "LEFT JOIN tags stag ON stt.tag_id = stag.id " +
+            "WHERE (:key IS NULL OR t.translation_key LIKE CONCAT('%', :key, '%')) " +
+            "AND (:content IS NULL OR t.content LIKE CONCAT('%', :content, '%')) " +
+            "AND (:localeCode IS NULL OR l.code = :localeCode) " +
+            "GROUP BY t.id " +
+            "HAVING (:tagCount IS NULL OR :tagCount = 0 OR COUNT(DISTINCT CASE WHEN stag.name IN :tagNames THEN stag.id ELSE NULL END) = :tagCount)) " +
+            "GROUP BY tag.name",
+            nativeQuery = true)
+    List<Object[]> countSearchTranslationsByTag(
+            @Param("key") String key,
+            @Param("content") String content,
+            @Param("localeCode") String localeCode,
+            @Param("tagNames") List<String> tagNames,
+            @Param("tagCount") Integer tagCount);
+
+    // Facet counts over the same matches as searchTranslationIds: one [locale code, count] row per locale
+    @Query(value = "SELECT l.code, COUNT(*) FROM translations t " +
+            "JOIN locales l ON t.locale_id = l.id " +
+            "WHERE t.id IN (SELECT st.id FROM translations st " +
+            "JOIN locales sl ON st.locale_id = sl.id " +
+            "LEFT JOIN translation_tags tt ON st.id = tt.translation_id " +
+            "LEFT JOIN tags tag ON tt.tag_id = tag.id " +
+            "WHERE (:key IS NULL OR st.translation_key LIKE CONCAT('%', :key, '%')) " +
+            "AND (:content IS NULL OR st.content LIKE CONCAT('%', :content, '%')) " +
+            "AND (:localeCode IS NULL OR sl.code = :localeCode) " +
+            "GROUP BY st.id " +
+            "HAVING (:tagCount IS NULL OR :tagCount = 0 OR COUNT(DISTINCT CASE WHEN tag.name IN :tagNames THEN tag.id ELSE NULL END) = :tagCount)) " +
+            "GROUP BY l.code",
+            nativeQuery = true)
+    List<Object[]> countSearchTranslationsByLocale(
+            @Param("key") String key,
+            @Param("content") String content,
+            @Param("localeCode") String localeCode,
+            @Param("tagNames") List<String> tagNames,
+            @Param("tagCount") Integer tagCount);
+
+    @Query("SELECT DISTINCT t FROM Translation t JOIN FETCH t.locale LEFT JOIN FETCH t.tags WHERE t.id IN :ids")
+    List<Translation> findAllWithLocaleAndTagsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Query(value = "INSERT INTO translation_tags (translation_id, tag_id) VALUES (?1, ?2)", nativeQuery = true)
     void addTagToTranslation(Long translationId, Long tagId);
@@ -0,0 +1,27 @@
+package com.translationservice.repository;
+
+import com.translationservice.model.Locale;
+import com.translationservice.model.TranslationTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TranslationTombstoneRepository extends JpaRepository<TranslationTombstone, Long> {
+
+    @Query("SELECT DISTINCT tt.key FROM TranslationTombstone tt WHERE tt.locale = :locale AND tt.deletedAt > :since")
+    List<String> findDeletedKeysSince(@Param("locale") Locale locale, @Param("since") LocalDateTime since);
+
+    @Query("SELECT MAX(tt.deletedAt) FROM TranslationTombstone tt WHERE tt.locale = :locale")
+    Optional<LocalDateTime> findLastDeletedByLocale(@Param("locale") Locale locale);
+
+    @Modifying
+    @Query("DELETE FROM TranslationTombstone tt WHERE tt.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,25 @@
+package com.translationservice.search;
+
+import com.translationservice.dto.SearchFacetsDTO;
+
+/**
+ * Result of a {@link TranslationSearchIndex} search: the matching ids in ascending order and, when
+ * requested, the facet counts over all of them.
+ */
+public class SearchMatches {
+    private final long[] ids;
+    private final SearchFacetsDTO facets;
+
+    public SearchMatches(long[] ids, SearchFacetsDTO facets) {
+        this.ids = ids;
+        this.facets = facets;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public SearchFacetsDTO getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,398 @@
+package com.translationservice.search;
+
+import com.translationservice.dto.SearchFacetsDTO;
+import com.translationservice.dto.TranslationIndexEntryDTO;
+import com.translationservice.dto.TranslationTagLinkDTO;
+import com.translationservice.repository.Collation;
+import com.translationservice.repository.TranslationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory search index over translations: trigram postings for substring matches on keys and
+ * contents, and a bitmap of document ordinals per locale and per tag for the filters. Built from
+ * the database once the application is ready and kept current by the write paths, which apply
+ * their changes after commit. Text matching is case-insensitive and treats the pattern literally.
+ * Locale and tag filters match the way the database compares those columns: locale codes ignoring
+ * case, tag names by {@linkplain Collation#key(String) collation key}.
+ *
+ * <p>Only writes made through this instance are seen; until the first build completes
+ * {@link #isReady()} is false and callers fall back to the database.
+ */
+@Component
+public class TranslationSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationSearchIndex.class);
+
+    private final TranslationRepository translationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+    // Changes that arrive while a rebuild is streaming rows; replayed onto the new state before it is swapped in
+    private List<Consumer<State>> pending;
+    private volatile boolean ready;
+
+    public TranslationSearchIndex(TranslationRepository translationRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.search.index.enabled:true}") boolean enabled) {
+        this.translationRepository = translationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TranslationIndexEntryDTO> entries = translationRepository.streamIndexEntries()) {
+                    entries.forEach(entry -> rebuilt.put(entry.getId(), entry.getKey(), entry.getContent(),
+                            entry.getLocaleCode(), List.of()));
+                }
+                try (Stream<TranslationTagLinkDTO> links = translationRepository.streamIndexTagLinks()) {
+                    links.forEach(link -> rebuilt.addTag(link.getTranslationId(), link.getTagName()));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(change -> change.accept(rebuilt));
+            pending = null;
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built with {} translations, {} key / {} content trigrams, {} locales and {} tags in {} ms",
+                rebuilt.liveCount, rebuilt.keyPostings.trigramCount(), rebuilt.contentPostings.trigramCount(),
+                rebuilt.localeBitmaps.size(), rebuilt.tagBitmaps.size(), System.currentTimeMillis() - startTime);
+    }
+
+    public void put(Long id, String key, String content, String localeCode, Collection<String> tagNames) {
+        List<String> tags = tagNames == null ? List.of() : List.copyOf(tagNames);
+        afterCommit(current -> current.put(id, key, content, localeCode, tags));
+    }
+
+    public void remove(Long id) {
+        afterCommit(current -> current.remove(id));
+    }
+
+    /**
+     * Ids, ascending, of the translations whose key contains the pattern.
+     */
+    public List<Long> findIdsByKey(String pattern) {
+        return toList(search(pattern, null, null, List.of(), false).getIds());
+    }
+
+    /**
+     * Ids, ascending, of the translations whose content contains the pattern.
+     */
+    public List<Long> findIdsByContent(String pattern) {
+        return toList(search(null, pattern, null, List.of(), false).getIds());
+    }
+
+    /**
+     * Ids, ascending, of the translations matching every given filter: key and content contain
+     * their pattern, the locale is {@code localeCode} and all of {@code tagNames} are attached.
+     * Null or empty filters match everything. With {@code facets}, also counts the matches per tag
+     * and per locale in the same pass that collects their ids.
+     */
+    public SearchMatches search(String key, String content, String localeCode, Collection<String> tagNames, boolean facets) {
+        String lowerKey = key == null || key.isEmpty() ? null : key.toLowerCase(Locale.ROOT);
+        String lowerContent = content == null || content.isEmpty() ? null : content.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            return state.search(lowerKey, lowerContent, localeCode, tagNames, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> toList(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private void afterCommit(Consumer<State> change) {
+        Runnable apply = () -> {
+            lock.writeLock().lock();
+            try {
+                state.apply(change);
+                if (pending != null) {
+                    pending.add(change);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    /**
+     * Documents addressed by ordinal. A changed key or content gets a new ordinal and the old one
+     * is retired, so posting lists only ever grow at the end; once retired ordinals outnumber live
+     * ones the state is compacted from its own live documents. Locale and tag bitmaps may keep
+     * bits of retired ordinals, which is harmless since every search starts from the live set.
+     */
+    private static final class State {
+        private long[] ids = new long[1024];
+        private String[] keys = new String[1024];
+        private String[] contents = new String[1024];
+        private String[] localeCodes = new String[1024];
+        private String[][] tagNames = new String[1024][];
+        private final BitSet live = new BitSet();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final TrigramPostings keyPostings = new TrigramPostings();
+        private final TrigramPostings contentPostings = new TrigramPostings();
+        private final Map<String, BitSet> localeBitmaps = new HashMap<>();
+        private final Map<String, BitSet> tagBitmaps = new HashMap<>();
+        private int size;
+        private int liveCount;
+
+        private void apply(Consumer<State> change) {
+            change.accept(this);
+            if (size - liveCount > Math.max(1024, liveCount)) {
+                compact();
+            }
+        }
+
+        private void put(Long id, String key, String content, String localeCode, Collection<String> tags) {
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            String lowerContent = content.toLowerCase(Locale.ROOT);
+            Integer existing = ordinals.get(id);
+            int ordinal;
+            if (existing != null && keys[existing].equals(lowerKey) && contents[existing].equals(lowerContent)) {
+                // Same text: only the filters change, so the ordinal and its postings are kept
+                ordinal = existing;
+                unsetFilters(ordinal);
+            } else {
+                remove(id);
+                ordinal = append(id, lowerKey, lowerContent);
+            }
+            localeCodes[ordinal] = localeCode;
+            localeBitmaps.computeIfAbsent(localeFilterKey(localeCode), code -> new BitSet()).set(ordinal);
+            tagNames[ordinal] = new String[0];
+            for (String tagName : tags) {
+                addTag(ordinal, tagName);
+            }
+        }
+
+        private void addTag(Long id, String tagName) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                addTag((int) ordinal, tagName);
+            }
+        }
+
+        private void addTag(int ordinal, String tagName) {
+            BitSet bitmap = tagBitmaps.computeIfAbsent(Collation.key(tagName), name -> new BitSet());
+            if (!bitmap.get(ordinal)) {
+                bitmap.set(ordinal);
+                String[] tags = Arrays.copyOf(tagNames[ordinal], tagNames[ordinal].length + 1);
+                tags[tags.length - 1] = tagName;
+                tagNames[ordinal] = tags;
+            }
+        }
+
+        private int append(Long id, String lowerKey, String lowerContent) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                contents = Arrays.copyOf(contents, capacity);
+                localeCodes = Arrays.copyOf(localeCodes, capacity);
+                tagNames = Arrays.copyOf(tagNames, capacity);
+            }
+            int ordinal = size++;
+            ids[ordinal] = id;
+            keys[ordinal] = lowerKey;
+            contents[ordinal] = lowerContent;
+            keyPostings.add(ordinal, lowerKey);
+            contentPostings.add(ordinal, lowerContent);
+            live.set(ordinal);
+            ordinals.put(id, ordinal);
+            liveCount++;
+            return ordinal;
+        }
+
+        private void remove(Long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unsetFilters(ordinal);
+                live.clear(ordinal);
+                keys[ordinal] = null;
+                contents[ordinal] = null;
+                localeCodes[ordinal] = null;
+                tagNames[ordinal] = null;
+                liveCount--;
+            }
+        }
+
+        private void unsetFilters(int ordinal) {
+            localeBitmaps.get(localeFilterKey(localeCodes[ordinal])).clear(ordinal);
+            for (String tagName : tagNames[ordinal]) {
+                tagBitmaps.get(Collation.key(tagName)).clear(ordinal);
+            }
+        }
+
+        private SearchMatches search(String lowerKey, String lowerContent, String localeCode, Collection<String> tags, boolean facets) {
+            // Bitmap filters first, so the text filters only verify documents that survived them
+            BitSet matches = (BitSet) live.clone();
+            if (localeCode != null) {
+                and(matches, localeBitmaps.get(localeFilterKey(localeCode)));
+            }
+            if (tags != null) {
+                for (String tagName : tags) {
+                    and(matches, tagBitmaps.get(Collation.key(tagName)));
+                }
+            }
+            if (lowerKey != null) {
+                matches = filter(matches, lowerKey, keys, keyPostings);
+            }
+            if (lowerContent != null) {
+                matches = filter(matches, lowerContent, contents, contentPostings);
+            }
+
+            long[] result = new long[matches.cardinality()];
+            Map<String, Long> tagCounts = new HashMap<>();
+            Map<String, Long> localeCounts = new HashMap<>();
+            int n = 0;
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                result[n++] = ids[ordinal];
+                if (facets) {
+                    localeCounts.merge(localeCodes[ordinal], 1L, Long::sum);
+                    for (String tagName : tagNames[ordinal]) {
+                        tagCounts.merge(tagName, 1L, Long::sum);
+                    }
+                }
+            }
+            // Ordinals follow insertion order, not id order, once rows have been changed
+            Arrays.sort(result);
+            return new SearchMatches(result, facets ? new SearchFacetsDTO(tagCounts, localeCounts) : null);
+        }
+
+        // Bitmaps are keyed like the database compares values; documents keep the codes and names as stored
+        private static String localeFilterKey(String localeCode) {
+            return localeCode.toLowerCase(Locale.ROOT);
+        }
+
+        private static void and(BitSet matches, BitSet bitmap) {
+            if (bitmap == null) {
+                matches.clear();
+            } else {
+                matches.and(bitmap);
+            }
+        }
+
+        private static BitSet filter(BitSet matches, String lowerPattern, String[] texts, TrigramPostings postings) {
+            // Verifying the remaining documents directly is cheaper than walking more candidates than
+            // there are documents left; patterns shorter than a trigram can only be verified that way
+            if (lowerPattern.length() < TrigramPostings.GRAM || matches.cardinality() <= postings.maxCandidates(lowerPattern)) {
+                for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                    if (!texts[ordinal].contains(lowerPattern)) {
+                        matches.clear(ordinal);
+                    }
+                }
+                return matches;
+            }
+            BitSet verified = new BitSet();
+            for (int ordinal : postings.candidates(lowerPattern)) {
+                if (matches.get(ordinal) && texts[ordinal].contains(lowerPattern)) {
+                    verified.set(ordinal);
+                }
+            }
+            return verified;
+        }
+
+        private void compact() {
+            long[] oldIds = ids;
+            String[] oldKeys = keys;
+            String[] oldContents = contents;
+            String[] oldLocaleCodes = localeCodes;
+            String[][] oldTagNames = tagNames;
+            BitSet oldLive = (BitSet) live.clone();
+
+            int capacity = Math.max(1024, liveCount * 2);
+            ids = new long[capacity];
+            keys = new String[capacity];
+            contents = new String[capacity];
+            localeCodes = new String[capacity];
+            tagNames = new String[capacity][];
+            live.clear();
+            ordinals.clear();
+            keyPostings.clear();
+            contentPostings.clear();
+            localeBitmaps.clear();
+            tagBitmaps.clear();
+            size = 0;
+            liveCount = 0;
+            for (int ordinal = oldLive.nextSetBit(0); ordinal >= 0; ordinal = oldLive.nextSetBit(ordinal + 1)) {
+                put(oldIds[ordinal], oldKeys[ordinal], oldContents[ordinal], oldLocaleCodes[ordinal],
+                        Arrays.asList(oldTagNames[ordinal]));
+            }
+        }
+    }
+}
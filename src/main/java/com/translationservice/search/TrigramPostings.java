@@ -0,0 +1,110 @@
+package com.translationservice.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram inverted index over document ordinals. Ordinals are added in increasing order, so
+ * every posting list stays sorted and lists can be intersected with a linear merge.
+ * Not thread-safe; {@link TranslationSearchIndex} guards it.
+ */
+class TrigramPostings {
+
+    static final int GRAM = 3;
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    void add(int ordinal, String lowerText) {
+        for (int i = 0; i + GRAM <= lowerText.length(); i++) {
+            IntList list = postings.computeIfAbsent(trigram(lowerText, i), t -> new IntList());
+            // A trigram repeated within the text is already posted for this ordinal
+            if (list.size == 0 || list.values[list.size - 1] != ordinal) {
+                list.add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Ordinals whose text contains every trigram of the pattern. They still have to be verified,
+     * since sharing all trigrams does not mean the pattern occurs contiguously.
+     */
+    int[] candidates(String lowerPattern) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= lowerPattern.length(); i++) {
+            grams.add(trigram(lowerPattern, i));
+        }
+        IntList[] lists = new IntList[grams.size()];
+        int n = 0;
+        for (Long gram : grams) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists[n++] = list;
+        }
+        // Start from the rarest trigram so the running candidate set is as small as possible
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists[0].values, lists[0].size);
+        int length = result.length;
+        for (int i = 1; i < lists.length && length > 0; i++) {
+            length = intersect(result, length, lists[i]);
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Upper bound on the number of candidates for the pattern: the length of its rarest trigram's
+     * posting list.
+     */
+    int maxCandidates(String lowerPattern) {
+        int max = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM <= lowerPattern.length(); i++) {
+            IntList list = postings.get(trigram(lowerPattern, i));
+            max = Math.min(max, list == null ? 0 : list.size);
+        }
+        return max;
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    int trigramCount() {
+        return postings.size();
+    }
+
+    // Intersects result[0, length) with list in place and returns the new length
+    private static int intersect(int[] result, int length, IntList list) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < length && j < list.size; i++) {
+            int value = result[i];
+            while (j < list.size && list.values[j] < value) {
+                j++;
+            }
+            if (j < list.size && list.values[j] == value) {
+                result[kept++] = value;
+            }
+        }
+        return kept;
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
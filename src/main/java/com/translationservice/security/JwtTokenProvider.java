@@ -1,23 +1,34 @@
 package com.translationservice.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -29,11 +40,27 @@ public class JwtTokenProvider {
     @Value("${app.security.jwt.expiration:86400000}")
     long validityInMilliseconds = 86400000; // 24h
 
+    // Verified tokens kept so that repeat callers skip parsing and signature checks; 0 disables the cache
+    @Value("${app.security.jwt.cache-size:10000}")
+    long cacheSize = 10000;
+
+    Clock clock = Clock.systemUTC();
+
     private Key key;
+    private JwtParser parser;
+    Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     protected void init() {
         key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        // Parsers are immutable and thread-safe, so one serves every request
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        verifiedTokens = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).expireAfter(new UntilTokenExpiry()).build()
+                : null;
     }
 
     public String createToken(Authentication authentication) {
@@ -44,7 +71,7 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(",")));
 
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
@@ -55,37 +82,84 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Parses and verifies the token once; empty if it is malformed, badly signed or expired.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(parse(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parse(token).toAuthentication();
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    public String getUsername(String token) {
+        return parse(token).getUsername();
+    }
 
-        String username = claims.getSubject();
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+    private VerifiedToken parse(String token) {
+        if (verifiedTokens == null) {
+            return verifySignature(token);
+        }
+        // Keyed by a digest so the cache holds no usable credentials
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null && !cached.isExpired(clock.instant())) {
+            return cached;
+        }
+        VerifiedToken verified = verifySignature(token);
+        verifiedTokens.put(hash, verified);
+        return verified;
+    }
+
+    private VerifiedToken verifySignature(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Object auth = claims.get("auth");
+        List<GrantedAuthority> authorities = auth == null ? List.of() : Arrays.stream(auth.toString().split(","))
+                .filter(authority -> !authority.isEmpty())
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
-
-        UserDetails userDetails = new User(username, "", authorities);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(), authorities, expiration != null ? expiration.toInstant() : null);
     }
 
-    public boolean validateToken(String token) {
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
-    public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    // Drops an entry when its token expires, so the cache never answers for an expired token
+    private class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String hash, VerifiedToken token, long currentTime) {
+            if (token.getExpiresAt() == null) {
+                return Long.MAX_VALUE;
+            }
+            // Saturates instead of overflowing for far-off expiries
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Duration.between(clock.instant(), token.getExpiresAt()).toMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(hash, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String hash, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
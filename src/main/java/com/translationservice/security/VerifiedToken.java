@@ -0,0 +1,51 @@
+package com.translationservice.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The claims of a token whose signature and expiry have been checked, as needed to authenticate a request.
+ */
+public final class VerifiedToken {
+
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String username, List<GrantedAuthority> authorities, Instant expiresAt) {
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * When the token expires, or null if it never does.
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    /**
+     * A new authentication for the current request; authentications are mutable, so they are not shared.
+     */
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(new User(username, "", authorities), "", authorities);
+    }
+}
@@ -0,0 +1,271 @@
+package com.translationservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.dto.BulkImportResultDTO;
+import com.translationservice.dto.BulkImportRowResultDTO;
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.dto.TranslationRequestDTO;
+import com.translationservice.repository.Collation;
+import com.translationservice.repository.IdBlockAllocator;
+import com.translationservice.repository.TranslationJdbcRepository;
+import com.translationservice.search.TranslationSearchIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    private final ReferenceDictionary referenceDictionary;
+    private final TagResolver tagResolver;
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final LocaleBundleCache localeBundleCache;
+    private final TranslationSearchIndex searchIndex;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BulkImportService(ReferenceDictionary referenceDictionary,
+                             TagResolver tagResolver,
+                             TranslationJdbcRepository translationJdbcRepository,
+                             IdBlockAllocator idBlockAllocator,
+                             LocaleBundleCache localeBundleCache,
+                             TranslationSearchIndex searchIndex,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.bulk.batch-size:1000}") int batchSize) {
+        this.referenceDictionary = referenceDictionary;
+        this.tagResolver = tagResolver;
+        this.translationJdbcRepository = translationJdbcRepository;
+        this.idBlockAllocator = idBlockAllocator;
+        this.localeBundleCache = localeBundleCache;
+        this.searchIndex = searchIndex;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(TranslationRequestDTO.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads a JSON array or newline-delimited JSON objects and writes them in batches of
+     * {@code app.bulk.batch-size} rows, each batch in its own transaction. Without {@code upsert},
+     * rows whose key already exists in the locale are reported as failed.
+     */
+    @CacheEvict(value = "translations", allEntries = true)
+    public BulkImportResultDTO importTranslations(InputStream body, boolean upsert) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Map<String, LocaleInfo> locales = referenceDictionary.getLocales().stream()
+                .collect(Collectors.toMap(LocaleInfo::getCode, Function.identity()));
+        List<BulkImportRowResultDTO> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+
+        // A root-level array is unwrapped by the iterator, so both body formats read the same way
+        try (MappingIterator<TranslationRequestDTO> rows = requestReader.readValues(body)) {
+            int index = 0;
+            while (true) {
+                TranslationRequestDTO row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    // The stream cannot be resynchronised after malformed JSON, so reading stops here
+                    results.add(BulkImportRowResultDTO.failed(index, null, null, "Malformed JSON: " + e.getOriginalMessage()));
+                    break;
+                }
+
+                String error = validate(row, locales, seen);
+                if (error != null) {
+                    results.add(BulkImportRowResultDTO.failed(index, row.getKey(), row.getLocaleCode(), error));
+                } else {
+                    batch.add(new PendingRow(index, row, locales.get(row.getLocaleCode())));
+                    if (batch.size() >= batchSize) {
+                        results.addAll(writeBatch(batch, upsert));
+                        batch.clear();
+                    }
+                }
+                index++;
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(writeBatch(batch, upsert));
+        }
+
+        results.sort(Comparator.comparingInt(BulkImportRowResultDTO::getIndex));
+        BulkImportResultDTO result = new BulkImportResultDTO(results);
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        log.info("Bulk import of {} rows finished in {} ms ({} rows/s): {} created, {} updated, {} failed",
+                result.getTotal(), elapsed, result.getTotal() * 1000L / elapsed,
+                result.getCreated(), result.getUpdated(), result.getFailed());
+        return result;
+    }
+
+    private String validate(TranslationRequestDTO row, Map<String, LocaleInfo> locales, Set<String> seen) {
+        Set<ConstraintViolation<TranslationRequestDTO>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!locales.containsKey(row.getLocaleCode())) {
+            return "Locale not found with code: " + row.getLocaleCode();
+        }
+        if (row.getTags() != null && row.getTags().stream().anyMatch(tag -> tag == null || tag.isBlank() || tag.length() > 50)) {
+            return "Tag names must be between 1 and 50 characters";
+        }
+        // Keys compare like the translation_key column, so "Hello" and "hello" are the same row
+        if (!seen.add(row.getLocaleCode() + '\u0000' + Collation.key(row.getKey()))) {
+            return "Duplicate key in request: " + row.getKey() + " for locale: " + row.getLocaleCode();
+        }
+        return null;
+    }
+
+    private List<BulkImportRowResultDTO> writeBatch(List<PendingRow> batch, boolean upsert) {
+        try {
+            return transactionTemplate.execute(status -> write(batch, upsert));
+        } catch (DataAccessException e) {
+            log.warn("Bulk import batch starting at row {} failed", batch.get(0).index, e);
+            String message = "Batch failed: " + e.getMostSpecificCause().getMessage();
+            return batch.stream()
+                    .map(row -> BulkImportRowResultDTO.failed(row.index, row.request.getKey(), row.request.getLocaleCode(), message))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<BulkImportRowResultDTO> write(List<PendingRow> batch, boolean upsert) {
+        List<BulkImportRowResultDTO> results = new ArrayList<>(batch.size());
+        Map<String, TagInfo> tags = resolveTags(batch);
+        Map<Long, Set<Long>> tagLinks = new HashMap<>();
+        List<Long> retaggedIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<LocaleInfo, List<PendingRow>> byLocale = batch.stream()
+                .collect(Collectors.groupingBy(row -> row.locale, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<LocaleInfo, List<PendingRow>> group : byLocale.entrySet()) {
+            LocaleInfo locale = group.getKey();
+            List<PendingRow> rows = group.getValue();
+            Map<String, Long> existing = translationJdbcRepository.findIdsByLocaleAndKeys(locale.getId(),
+                    rows.stream().map(row -> row.request.getKey()).collect(Collectors.toList()));
+            // The lookup matches keys like the column does, so a row is found under its stored spelling
+            Map<String, String> storedKeys = new HashMap<>();
+            existing.keySet().forEach(key -> storedKeys.put(Collation.key(key), key));
+
+            List<PendingRow> inserts = new ArrayList<>();
+            List<PendingRow> updates = new ArrayList<>();
+            for (PendingRow row : rows) {
+                if (!storedKeys.containsKey(Collation.key(row.request.getKey()))) {
+                    inserts.add(row);
+                } else if (upsert) {
+                    updates.add(row);
+                } else {
+                    results.add(BulkImportRowResultDTO.failed(row.index, row.request.getKey(), locale.getCode(),
+                            "Translation already exists for key: " + row.request.getKey() + " and locale: " + locale.getCode()));
+                }
+            }
+            if (inserts.isEmpty() && updates.isEmpty()) {
+                continue;
+            }
+
+            long nextId = inserts.isEmpty() ? 0 : idBlockAllocator.allocate(IdBlockAllocator.TRANSLATIONS, inserts.size());
+            translationJdbcRepository.batchInsert(nextId, locale.getId(), entries(inserts), now);
+            translationJdbcRepository.batchUpdate(locale.getId(), entries(updates), now);
+
+            for (PendingRow row : inserts) {
+                Long id = nextId++;
+                searchIndex.put(id, row.request.getKey(), row.request.getContent(), locale.getCode(),
+                        linkTags(tagLinks, id, row.request.getTags(), tags));
+                results.add(new BulkImportRowResultDTO(row.index, row.request.getKey(), locale.getCode(),
+                        BulkImportRowResultDTO.Status.CREATED, id, null));
+            }
+            for (PendingRow row : updates) {
+                // Same semantics as a single update: the submitted tags replace the current ones.
+                // The update matches the stored key without changing it, so that is the key indexed
+                String storedKey = storedKeys.get(Collation.key(row.request.getKey()));
+                Long id = existing.get(storedKey);
+                retaggedIds.add(id);
+                searchIndex.put(id, storedKey, row.request.getContent(), locale.getCode(),
+                        linkTags(tagLinks, id, row.request.getTags(), tags));
+                results.add(new BulkImportRowResultDTO(row.index, row.request.getKey(), locale.getCode(),
+                        BulkImportRowResultDTO.Status.UPDATED, id, null));
+            }
+            localeBundleCache.evict(locale.getCode());
+        }
+
+        translationJdbcRepository.deleteTagLinks(retaggedIds);
+        translationJdbcRepository.batchInsertTagLinks(tagLinks);
+        return results;
+    }
+
+    private Map<String, TagInfo> resolveTags(List<PendingRow> batch) {
+        List<String> names = batch.stream()
+                .filter(row -> row.request.getTags() != null)
+                .flatMap(row -> row.request.getTags().stream())
+                .distinct()
+                .collect(Collectors.toList());
+        return names.isEmpty() ? Collections.emptyMap() : tagResolver.resolve(names);
+    }
+
+    // Returns the stored names of the linked tags, for indexing the row as it will be read back
+    private List<String> linkTags(Map<Long, Set<Long>> tagLinks, Long translationId, List<String> tagNames, Map<String, TagInfo> tags) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> links = tagLinks.computeIfAbsent(translationId, id -> new HashSet<>());
+        List<String> linked = new ArrayList<>();
+        for (String tagName : tagNames) {
+            TagInfo tag = tags.get(tagName);
+            if (links.add(tag.getId())) {
+                linked.add(tag.getName());
+            }
+        }
+        return linked;
+    }
+
+    private List<TranslationEntryDTO> entries(List<PendingRow> rows) {
+        return rows.stream()
+                .map(row -> new TranslationEntryDTO(row.request.getKey(), row.request.getContent()))
+                .collect(Collectors.toList());
+    }
+
+    private static final class PendingRow {
+        private final int index;
+        private final TranslationRequestDTO request;
+        private final LocaleInfo locale;
+
+        private PendingRow(int index, TranslationRequestDTO request, LocaleInfo locale) {
+            this.index = index;
+            this.request = request;
+            this.locale = locale;
+        }
+    }
+}
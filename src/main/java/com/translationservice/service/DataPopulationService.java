@@ -1,13 +1,12 @@
 package com.translationservice.service;
 
+import com.translationservice.dto.TranslationEntryDTO;
 import com.translationservice.model.Locale;
 import com.translationservice.model.Tag;
-import com.translationservice.model.Translation;
+import com.translationservice.repository.IdBlockAllocator;
 import com.translationservice.repository.LocaleRepository;
 import com.translationservice.repository.TagRepository;
-import com.translationservice.repository.TranslationRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.translationservice.repository.TranslationJdbcRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,47 +14,64 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * Seeds the database with generated translations. Each locale's rows are split into partitions of
+ * {@code app.data.batch-size}, which {@code app.data.threads} workers insert in parallel, each
+ * partition as one JDBC batch of translations plus one of tag links in its own transaction.
+ */
 @Service
 @Profile("!test")
 public class DataPopulationService implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(DataPopulationService.class);
 
-    private final TranslationRepository translationRepository;
+    private final TranslationJdbcRepository translationJdbcRepository;
     private final LocaleRepository localeRepository;
     private final TagRepository tagRepository;
+    private final IdBlockAllocator idBlockAllocator;
     private final TransactionTemplate transactionTemplate;
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
     @Value("${app.data.populate:false}")
     private boolean populateData;
 
     @Value("${app.data.count:100000}")
     private int dataCount;
 
+    @Value("${app.data.threads:4}")
+    private int threads;
+
+    @Value("${app.data.batch-size:1000}")
+    private int batchSize;
+
+    // Each row gets between one and this many distinct tags
+    private static final int MAX_TAGS_PER_ROW = 3;
+
     private static final String[] TAG_NAMES = {
             "mobile", "desktop", "web", "admin", "user", "public", "private",
             "login", "signup", "dashboard", "settings", "error"
     };
 
-    // Same SAMPLE_KEYS and TAG_NAMES arrays
-
-    public DataPopulationService(TranslationRepository translationRepository,
+    public DataPopulationService(TranslationJdbcRepository translationJdbcRepository,
                                  LocaleRepository localeRepository,
                                  TagRepository tagRepository,
+                                 IdBlockAllocator idBlockAllocator,
                                  PlatformTransactionManager transactionManager) {
-        this.translationRepository = translationRepository;
+        this.translationJdbcRepository = translationJdbcRepository;
         this.localeRepository = localeRepository;
         this.tagRepository = tagRepository;
+        this.idBlockAllocator = idBlockAllocator;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
@@ -67,68 +83,83 @@ public class DataPopulationService implements CommandLineRunner {
     }
 
     public void generateTestData(int count) {
-        log.info("Starting data population with {} records", count);
+        int workers = Math.max(1, threads);
+        int partitionSize = Math.max(1, batchSize);
+        log.info("Starting data population with {} records on {} threads", count, workers);
         long startTime = System.currentTimeMillis();
 
-        // Clear existing translations
-        transactionTemplate.execute(status -> {
-            log.info("Clearing existing translations...");
-            translationRepository.deleteAll();
-            log.info("Translations cleared");
-            return null;
-        });
+        int cleared = transactionTemplate.execute(status -> translationJdbcRepository.deleteAll());
+        log.info("Cleared {} existing translations", cleared);
+
+        List<Locale> locales = transactionTemplate.execute(status -> ensureLocalesExist());
+        List<Long> tagIds = transactionTemplate.execute(status -> ensureTagsExist()).stream()
+                .map(Tag::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // The remainder goes to the first locales, so exactly count rows are created
+        List<Partition> partitions = new ArrayList<>();
+        for (int l = 0; l < locales.size(); l++) {
+            int rows = count / locales.size() + (l < count % locales.size() ? 1 : 0);
+            for (int from = 0; from < rows; from += partitionSize) {
+                partitions.add(new Partition(locales.get(l), from, Math.min(from + partitionSize, rows)));
+            }
+        }
 
-        // Ensure locales exist
-        List<Locale> locales = transactionTemplate.execute(status -> {
-            return ensureLocalesExist();
-        });
+        Progress progress = new Progress(count, startTime);
+        LocalDateTime now = LocalDateTime.now();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>(partitions.size());
+            for (Partition partition : partitions) {
+                futures.add(executor.submit(() -> progress.add(insertPartition(partition, tagIds, now))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Data population failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Data population interrupted", e);
+        } finally {
+            // Stops the remaining partitions if one failed
+            executor.shutdownNow();
+        }
 
-        // Ensure tags exist
-        List<Tag> tags = transactionTemplate.execute(status -> {
-            return ensureTagsExist();
-        });
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        log.info("Data population completed. {} translations created in {} ms ({} rows/s, {} threads, batches of {})",
+                progress.created(), elapsed, progress.created() * 1000L / elapsed, workers, partitionSize);
+    }
 
-        // Add translations in small batches
-        int totalCreated = 0;
-        int batchSize = 100;
-        int targetPerLocale = count / locales.size();
-
-        for (Locale locale : locales) {
-            log.info("Creating translations for locale: {}", locale.getCode());
-
-            for (int batch = 0; batch < Math.ceil(targetPerLocale / (double)batchSize); batch++) {
-                final int batchNumber = batch;
-
-                int batchCount = transactionTemplate.execute(status -> {
-                    int created = 0;
-                    for (int i = 0; i < batchSize && (batchNumber * batchSize + i) < targetPerLocale; i++) {
-                        int index = batchNumber * batchSize + i;
-
-                        // Create simple key and content
-                        String key = "key." + locale.getCode() + "." + index;
-                        String content = "Content for " + key;
-
-                        // Create translation
-                        Translation translation = new Translation();
-                        translation.setKey(key);
-                        translation.setContent(content);
-                        translation.setLocale(locale);
-
-                        // Save it without tags
-                        translationRepository.save(translation);
-                        created++;
-                    }
-                    return created;
-                });
-
-                totalCreated += batchCount;
-                log.info("Created batch {} with {} translations for locale {}. Total: {}",
-                        batch, batchCount, locale.getCode(), totalCreated);
+    private int insertPartition(Partition partition, List<Long> tagIds, LocalDateTime now) {
+        int size = partition.to - partition.from;
+        // Reserved outside the transaction, so a worker never holds two connections
+        long firstId = idBlockAllocator.allocate(IdBlockAllocator.TRANSLATIONS, size);
+
+        List<TranslationEntryDTO> entries = new ArrayList<>(size);
+        Map<Long, Set<Long>> links = new HashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String code = partition.locale.getCode();
+        for (int i = 0; i < size; i++) {
+            String key = "key." + code + "." + (partition.from + i);
+            entries.add(new TranslationEntryDTO(key, "Content for " + key));
+            if (!tagIds.isEmpty()) {
+                Set<Long> rowTags = new HashSet<>();
+                int tagCount = 1 + random.nextInt(Math.min(MAX_TAGS_PER_ROW, tagIds.size()));
+                while (rowTags.size() < tagCount) {
+                    rowTags.add(tagIds.get(random.nextInt(tagIds.size())));
+                }
+                links.put(firstId + i, rowTags);
             }
         }
 
-        long endTime = System.currentTimeMillis();
-        log.info("Data population completed. {} translations created in {} ms", totalCreated, endTime - startTime);
+        transactionTemplate.executeWithoutResult(status -> {
+            translationJdbcRepository.batchInsert(firstId, partition.locale.getId(), entries, now);
+            translationJdbcRepository.batchInsertTagLinks(links);
+        });
+        return size;
     }
 
     private List<Locale> ensureLocalesExist() {
@@ -164,4 +195,46 @@ public class DataPopulationService implements CommandLineRunner {
 
         return existingTags;
     }
-}
\ No newline at end of file
+
+    // Rows [from, to) of one locale
+    private static final class Partition {
+        private final Locale locale;
+        private final int from;
+        private final int to;
+
+        private Partition(Locale locale, int from, int to) {
+            this.locale = locale;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * Rows created so far, logged with the overall rate about every tenth of the total.
+     */
+    private static final class Progress {
+
+        private final AtomicLong created = new AtomicLong();
+        private final long step;
+        private final int total;
+        private final long startTime;
+
+        Progress(int total, long startTime) {
+            this.total = total;
+            this.step = Math.max(1, total / 10);
+            this.startTime = startTime;
+        }
+
+        void add(int rows) {
+            long after = created.addAndGet(rows);
+            if ((after - rows) / step != after / step) {
+                long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+                log.info("Populated {}/{} translations ({} rows/s)", after, total, after * 1000L / elapsed);
+            }
+        }
+
+        long created() {
+            return created.get();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.translationservice.service;
+
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.repository.Collation;
+import com.translationservice.repository.IdBlockAllocator;
+import com.translationservice.repository.TagJdbcRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves tag names to tags, creating the missing ones. Known names are answered from the
+ * {@link ReferenceDictionary}; the rest are looked up and created together in one transaction of their own.
+ *
+ * <p>Tags are committed independently of the caller, so they may not be visible to a caller's
+ * snapshot that was taken earlier: callers should link the returned tags by reference rather than
+ * reading the tag rows back.
+ */
+@Component
+public class TagResolver {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final TagJdbcRepository tagJdbcRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final ReferenceDictionary referenceDictionary;
+    private final TransactionTemplate transactionTemplate;
+
+    public TagResolver(TagJdbcRepository tagJdbcRepository, IdBlockAllocator idBlockAllocator,
+                       ReferenceDictionary referenceDictionary, PlatformTransactionManager transactionManager) {
+        this.tagJdbcRepository = tagJdbcRepository;
+        this.idBlockAllocator = idBlockAllocator;
+        this.referenceDictionary = referenceDictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Tags of the given names, keyed by the names in the order they are given, without duplicates.
+     * A name that differs from a stored one only in case or accents resolves to the stored tag, whose
+     * name is the one to show and index.
+     */
+    public Map<String, TagInfo> resolve(Collection<String> names) {
+        Map<String, TagInfo> resolved = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : new LinkedHashSet<>(names)) {
+            TagInfo tag = referenceDictionary.findTag(name);
+            resolved.put(name, tag);
+            if (tag == null) {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, TagInfo> loaded = load(missing);
+            referenceDictionary.putTags(loaded.values());
+            for (String name : missing) {
+                resolved.put(name, loaded.get(Collation.key(name)));
+            }
+        }
+        return resolved;
+    }
+
+    // Tags keyed by collation key; the first spelling of a new name is the one created
+    private Map<String, TagInfo> load(List<String> names) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Map<String, TagInfo> found = transactionTemplate.execute(status -> {
+                    Map<String, TagInfo> existing = byKey(tagJdbcRepository.findIdsByNames(names));
+                    Map<String, String> missing = new LinkedHashMap<>();
+                    for (String name : names) {
+                        if (!existing.containsKey(Collation.key(name))) {
+                            missing.putIfAbsent(Collation.key(name), name);
+                        }
+                    }
+                    if (!missing.isEmpty()) {
+                        List<String> created = new ArrayList<>(missing.values());
+                        long firstId = idBlockAllocator.allocate(IdBlockAllocator.TAGS, created.size());
+                        tagJdbcRepository.insertMissing(firstId, created, LocalDateTime.now());
+                        existing.putAll(byKey(tagJdbcRepository.findIdsByNames(created)));
+                    }
+                    return existing;
+                });
+                // A name skipped as existing can still be invisible to this transaction's snapshot
+                if (names.stream().allMatch(name -> found.containsKey(Collation.key(name)))) {
+                    return found;
+                }
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new IllegalStateException("Could not resolve tags: " + names);
+                }
+            } catch (DuplicateKeyException e) {
+                // Another transaction created one of the names after it was looked up; it is committed now,
+                // so the next attempt finds it
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Map<String, TagInfo> byKey(Map<String, Long> idsByName) {
+        Map<String, TagInfo> tags = new HashMap<>();
+        idsByName.forEach((name, id) -> tags.put(Collation.key(name), new TagInfo(id, name)));
+        return tags;
+    }
+}
@@ -0,0 +1,41 @@
+package com.translationservice.service;
+
+import com.translationservice.repository.TranslationTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes tombstones older than {@code app.delta.tombstone-retention}, so the table and the deltas
+ * built from it stay bounded. A delta whose cursor is older than that gets the whole locale instead.
+ */
+@Service
+public class TombstonePurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(TombstonePurgeService.class);
+
+    private final TranslationTombstoneRepository tombstoneRepository;
+
+    @Value("${app.delta.tombstone-retention:30d}")
+    private Duration retention;
+
+    public TombstonePurgeService(TranslationTombstoneRepository tombstoneRepository) {
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${app.delta.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public int purgeExpired() {
+        int purged = tombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} tombstones older than {}", purged, retention);
+        }
+        return purged;
+    }
+}
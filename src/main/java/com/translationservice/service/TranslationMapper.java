@@ -0,0 +1,49 @@
+package com.translationservice.service;
+
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.model.Tag;
+import com.translationservice.model.Translation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maps translations to response DTOs. The locale is described from the {@link ReferenceDictionary},
+ * so a lazy locale reference is never initialized; only the translation's tags are read.
+ */
+@Component
+public class TranslationMapper {
+
+    private final ReferenceDictionary referenceDictionary;
+
+    public TranslationMapper(ReferenceDictionary referenceDictionary) {
+        this.referenceDictionary = referenceDictionary;
+    }
+
+    public TranslationResponseDTO toDTO(Translation translation) {
+        return toDTO(translation, translation.getTags().stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Maps the translation with the given tag names instead of reading its tags, for a write that
+     * already knows the names of the tags it linked.
+     */
+    public TranslationResponseDTO toDTO(Translation translation, List<String> tagNames) {
+        LocaleInfo locale = referenceDictionary.describe(translation.getLocale());
+        return TranslationResponseDTO.builder()
+                .id(translation.getId())
+                .key(translation.getKey())
+                .content(translation.getContent())
+                .localeCode(locale.getCode())
+                .localeName(locale.getName())
+                .tags(tagNames)
+                .createdAt(translation.getCreatedAt())
+                .updatedAt(translation.getUpdatedAt())
+                .build();
+    }
+}
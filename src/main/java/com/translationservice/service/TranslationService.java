@@ -1,15 +1,34 @@
 package com.translationservice.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.CursorPageDTO;
+import com.translationservice.dto.SearchFacetsDTO;
+import com.translationservice.dto.SearchPageDTO;
 import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationDeltaDTO;
+import com.translationservice.dto.TranslationEntryDTO;
 import com.translationservice.dto.TranslationRequestDTO;
 import com.translationservice.dto.TranslationResponseDTO;
 import com.translationservice.exception.ResourceNotFoundException;
 import com.translationservice.model.Locale;
-import com.translationservice.model.Tag;
 import com.translationservice.model.Translation;
+import com.translationservice.model.TranslationTombstone;
 import com.translationservice.repository.LocaleRepository;
 import com.translationservice.repository.TagRepository;
 import com.translationservice.repository.TranslationRepository;
+import com.translationservice.repository.TranslationTombstoneRepository;
+import com.translationservice.search.SearchMatches;
+import com.translationservice.search.TranslationSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
@@ -18,27 +37,71 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "translation.service", description = "TranslationService method calls")
 public class TranslationService {
 
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    // Rows written by transactions that commit after a delta was read can carry an earlier timestamp
+    // than the returned cursor, so every delta re-reads this window; re-applying a change is harmless.
+    // The cursor, updated_at and deleted_at all come from the application's clock (entity callbacks,
+    // bulk batches, this class), never the database's, so the clocks of all instances must agree to
+    // within this window
+    static final Duration DELTA_OVERLAP = Duration.ofSeconds(5);
+
+    static final int MAX_SCROLL_SIZE = 1000;
+
+    // Keeps the IN list of a hydration query within what every driver accepts
+    static final int HYDRATE_CHUNK_SIZE = 1000;
+
     private final TranslationRepository translationRepository;
     private final LocaleRepository localeRepository;
     private final TagRepository tagRepository;
-
-    public TranslationService(TranslationRepository translationRepository, LocaleRepository localeRepository, TagRepository tagRepository) {
+    private final TranslationTombstoneRepository tombstoneRepository;
+    private final LocaleBundleCache localeBundleCache;
+    private final TranslationSearchIndex searchIndex;
+    private final TagResolver tagResolver;
+    private final ReferenceDictionary referenceDictionary;
+    private final TranslationMapper translationMapper;
+
+    // Tombstones older than this are purged, so an older cursor gets the whole locale again
+    @Value("${app.delta.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    public TranslationService(TranslationRepository translationRepository, LocaleRepository localeRepository,
+                              TagRepository tagRepository, TranslationTombstoneRepository tombstoneRepository,
+                              LocaleBundleCache localeBundleCache, TranslationSearchIndex searchIndex,
+                              TagResolver tagResolver, ReferenceDictionary referenceDictionary,
+                              TranslationMapper translationMapper) {
         this.translationRepository = translationRepository;
         this.localeRepository = localeRepository;
         this.tagRepository = tagRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.localeBundleCache = localeBundleCache;
+        this.searchIndex = searchIndex;
+        this.tagResolver = tagResolver;
+        this.referenceDictionary = referenceDictionary;
+        this.translationMapper = translationMapper;
     }
 
     @Transactional
-    @CacheEvict(value = {"translations", "translationsByLocale"}, allEntries = true)
+    @CacheEvict(value = "translations", allEntries = true)
     public TranslationResponseDTO createTranslation(TranslationRequestDTO requestDTO) {
-        Locale locale = localeRepository.findByCode(requestDTO.getLocaleCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Locale not found with code: " + requestDTO.getLocaleCode()));
+        LocaleInfo localeInfo = findLocale(requestDTO.getLocaleCode());
+        Locale locale = localeRepository.getReferenceById(localeInfo.getId());
 
         // Check if translation already exists
         Optional<Translation> existingTranslation = translationRepository.findByKeyAndLocale(requestDTO.getKey(), locale);
@@ -54,23 +117,26 @@ public class TranslationService {
                 .build();
 
 
-        if (requestDTO.getTags() != null && !requestDTO.getTags().isEmpty()) {
-            Set<Tag> tags = getOrCreateTags(requestDTO.getTags());
-            tags.forEach(translation::addTag);
-        }
+        List<String> tagNames = addTags(translation, tagNames(requestDTO));
 
         Translation savedTranslation = translationRepository.save(translation);
-        return mapToDTO(savedTranslation);
+        localeBundleCache.put(localeInfo.getCode(), savedTranslation.getKey(), savedTranslation.getContent());
+        indexTranslation(savedTranslation, tagNames);
+        return translationMapper.toDTO(savedTranslation, tagNames);
     }
 
     @Transactional
-    @CacheEvict(value = {"translations", "translationsByLocale"}, allEntries = true)
+    @CacheEvict(value = "translations", allEntries = true)
     public TranslationResponseDTO updateTranslation(Long id, TranslationRequestDTO requestDTO) {
         Translation translation = translationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Translation not found with id: " + id));
 
-        Locale locale = localeRepository.findByCode(requestDTO.getLocaleCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Locale not found with code: " + requestDTO.getLocaleCode()));
+        LocaleInfo localeInfo = findLocale(requestDTO.getLocaleCode());
+        Locale locale = localeRepository.getReferenceById(localeInfo.getId());
+
+        Locale previousLocale = translation.getLocale();
+        String previousLocaleCode = referenceDictionary.describe(previousLocale).getCode();
+        String previousKey = translation.getKey();
 
         translation.setKey(requestDTO.getKey());
         translation.setContent(requestDTO.getContent());
@@ -78,58 +144,120 @@ public class TranslationService {
 
         // Update tags
         translation.getTags().clear();
-        if (requestDTO.getTags() != null && !requestDTO.getTags().isEmpty()) {
-            Set<Tag> tags = getOrCreateTags(requestDTO.getTags());
-            tags.forEach(translation::addTag);
-        }
+        List<String> tagNames = addTags(translation, tagNames(requestDTO));
 
         Translation updatedTranslation = translationRepository.save(translation);
-        return mapToDTO(updatedTranslation);
+
+        // A row moved to another key or locale must also disappear from its previous bundle
+        if (!previousLocaleCode.equals(localeInfo.getCode()) || !previousKey.equals(updatedTranslation.getKey())) {
+            tombstoneRepository.save(new TranslationTombstone(previousKey, previousLocale));
+            localeBundleCache.remove(previousLocaleCode, previousKey);
+        }
+        localeBundleCache.put(localeInfo.getCode(), updatedTranslation.getKey(), updatedTranslation.getContent());
+        indexTranslation(updatedTranslation, tagNames);
+        return translationMapper.toDTO(updatedTranslation, tagNames);
     }
 
     @Transactional(readOnly = true)
     public TranslationResponseDTO getTranslation(Long id) {
         Translation translation = translationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Translation not found with id: " + id));
-        return mapToDTO(translation);
+        return translationMapper.toDTO(translation);
     }
 
     @Transactional(readOnly = true)
     @Cacheable("translations")
     public List<TranslationResponseDTO> getAllTranslations(Pageable pageable) {
         return translationRepository.findAll(pageable).stream()
-                .map(this::mapToDTO)
+                .map(translationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "translationsByLocale", key = "#localeCode")
+    public CursorPageDTO<TranslationResponseDTO> scrollTranslations(String cursor, int size, boolean count) {
+        int limit = scrollSize(size);
+        // One row past the page tells whether there is a next page without counting
+        List<Translation> rows = translationRepository.findPageAfterId(IdCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        List<Translation> page = rows.size() > limit ? rows.subList(0, limit) : rows;
+        String nextCursor = rows.size() > limit ? IdCursor.encode(page.get(limit - 1).getId()) : null;
+
+        return new CursorPageDTO<>(
+                page.stream().map(translationMapper::toDTO).collect(Collectors.toList()),
+                limit,
+                nextCursor,
+                count ? translationRepository.count() : null);
+    }
+
+    // Bundle reads are served from the bundle cache without a transaction, so a cached read or a 304
+    // never borrows a connection; a cache miss loads the bundle in the loader's own read-only transaction
     public Map<String, String> getTranslationsByLocale(String localeCode) {
-        Locale locale = localeRepository.findByCode(localeCode)
-                .orElseThrow(() -> new ResourceNotFoundException("Locale not found with code: " + localeCode));
+        return getLocaleBundle(localeCode).getTranslations();
+    }
 
-        List<Translation> translations = translationRepository.findByLocale(locale);
-        Map<String, String> translationMap = new HashMap<>();
+    public LocaleBundle getLocaleBundle(String localeCode) {
+        return localeBundleCache.getBundle(localeCode);
+    }
 
-        for (Translation translation : translations) {
-            translationMap.put(translation.getKey(), translation.getContent());
+    @Transactional(readOnly = true)
+    public TranslationDeltaDTO getTranslationDelta(String localeCode, Instant since) {
+        Locale locale = localeRepository.getReferenceById(findLocale(localeCode).getId());
+
+        // Taken before reading, so anything committed while the delta is built shows up in the next one
+        LocalDateTime cursor = LocalDateTime.now();
+        Map<String, String> changed = new HashMap<>();
+        List<String> deleted = new ArrayList<>();
+        LocalDateTime from = since == null ? null : LocalDateTime.ofInstant(since, ZoneId.systemDefault()).minus(DELTA_OVERLAP);
+        // Deletes before the retention horizon may already be purged, so such a client resyncs in full
+        boolean full = from == null || from.isBefore(cursor.minus(tombstoneRetention));
+
+        if (full) {
+            try (Stream<TranslationEntryDTO> entries = translationRepository.streamEntriesByLocale(locale)) {
+                entries.forEach(entry -> changed.put(entry.getKey(), entry.getContent()));
+            }
+        } else {
+            for (TranslationEntryDTO entry : translationRepository.findEntriesByLocaleUpdatedSince(locale, from)) {
+                changed.put(entry.getKey(), entry.getContent());
+            }
+            // A key that was deleted and then created again is reported with its current content only
+            for (String key : tombstoneRepository.findDeletedKeysSince(locale, from)) {
+                if (!changed.containsKey(key)) {
+                    deleted.add(key);
+                }
+            }
         }
 
-        return translationMap;
+        return new TranslationDeltaDTO(localeCode, changed, deleted, cursor.atZone(ZoneId.systemDefault()).toInstant(), full);
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable("allTranslationsJson")
     public Map<String, Map<String, String>> getAllTranslationsJson() {
-        List<Locale> locales = localeRepository.findAll();
-        Map<String, Map<String, String>> result = new HashMap<>();
+        return getTranslationExport().getTranslations();
+    }
 
-        for (Locale locale : locales) {
-            Map<String, String> translations = getTranslationsByLocale(locale.getCode());
-            result.put(locale.getCode(), translations);
-        }
+    public TranslationExport getTranslationExport() {
+        return localeBundleCache.getExport(() -> referenceDictionary.getLocales().stream()
+                .map(LocaleInfo::getCode)
+                .collect(Collectors.toList()));
+    }
 
-        return result;
+    @Transactional(readOnly = true)
+    public void exportTranslations(OutputStream outputStream) throws IOException {
+        // Rows are written as they are read, so memory stays flat regardless of table size
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            for (LocaleInfo locale : referenceDictionary.getLocales()) {
+                generator.writeObjectFieldStart(locale.getCode());
+                try (Stream<TranslationEntryDTO> entries = translationRepository.streamEntriesByLocale(
+                        localeRepository.getReferenceById(locale.getId()))) {
+                    Iterator<TranslationEntryDTO> iterator = entries.iterator();
+                    while (iterator.hasNext()) {
+                        TranslationEntryDTO entry = iterator.next();
+                        generator.writeStringField(entry.getKey(), entry.getContent());
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
     }
 
     @Transactional(readOnly = true)
@@ -140,8 +268,22 @@ public class TranslationService {
 
         List<String> tagNames = searchRequest.getTags() != null ? searchRequest.getTags() : new ArrayList<>();
         Integer tagCount = tagNames.isEmpty() ? 0 : tagNames.size();
+        boolean facets = Boolean.TRUE.equals(searchRequest.getFacets());
+
+        if (searchIndex.isReady()) {
+            SearchMatches result = searchIndex.search(searchRequest.getKey(), searchRequest.getContent(),
+                    searchRequest.getLocaleCode(), tagNames, facets);
+            long[] matches = result.getIds();
+            int from = (int) Math.min(pageable.getOffset(), matches.length);
+            int to = Math.min(from + size, matches.length);
+            List<Long> pageIds = ids(matches, from, to);
+            List<TranslationResponseDTO> content = hydrate(pageIds);
+            // Rows deleted since the index was read are missing from the page, so they leave the total too
+            long total = matches.length - (pageIds.size() - content.size());
+            return new SearchPageDTO<>(content, pageable, total, result.getFacets());
+        }
 
-        Page<Translation> translations = translationRepository.searchTranslations(
+        Page<Long> ids = translationRepository.searchTranslationIds(
                 searchRequest.getKey(),
                 searchRequest.getContent(),
                 searchRequest.getLocaleCode(),
@@ -150,66 +292,183 @@ public class TranslationService {
                 pageable
         );
 
-        return translations.map(this::mapToDTO);
+        // Hydrate the whole page with its locales and tags in one query, then restore the page order
+        Map<Long, Translation> byId = ids.isEmpty() ? Map.of()
+                : translationRepository.findAllWithLocaleAndTagsByIdIn(ids.getContent()).stream()
+                        .collect(Collectors.toMap(Translation::getId, translation -> translation));
+        return new SearchPageDTO<>(
+                ids.getContent().stream().map(id -> translationMapper.toDTO(byId.get(id))).collect(Collectors.toList()),
+                pageable,
+                ids.getTotalElements(),
+                facets ? countFacets(searchRequest, tagNames, tagCount) : null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TranslationResponseDTO> scrollSearchTranslations(SearchRequestDTO searchRequest, String cursor, boolean count) {
+        int limit = scrollSize(searchRequest.getSize() != null ? searchRequest.getSize() : 20);
+        List<String> tagNames = searchRequest.getTags() != null ? searchRequest.getTags() : new ArrayList<>();
+        Integer tagCount = tagNames.isEmpty() ? 0 : tagNames.size();
+        boolean facets = Boolean.TRUE.equals(searchRequest.getFacets());
+
+        if (searchIndex.isReady()) {
+            SearchMatches result = searchIndex.search(searchRequest.getKey(), searchRequest.getContent(),
+                    searchRequest.getLocaleCode(), tagNames, facets);
+            long[] matches = result.getIds();
+            int from = Arrays.binarySearch(matches, IdCursor.decode(cursor));
+            from = from >= 0 ? from + 1 : -from - 1;
+            int to = Math.min(from + limit, matches.length);
+            List<Long> pageIds = ids(matches, from, to);
+            List<TranslationResponseDTO> content = hydrate(pageIds);
+            return new CursorPageDTO<>(
+                    content,
+                    limit,
+                    to < matches.length ? IdCursor.encode(pageIds.get(pageIds.size() - 1)) : null,
+                    count ? (long) matches.length - (pageIds.size() - content.size()) : null,
+                    result.getFacets());
+        }
+
+        List<Long> ids = translationRepository.searchTranslationIdsAfter(
+                searchRequest.getKey(),
+                searchRequest.getContent(),
+                searchRequest.getLocaleCode(),
+                tagNames,
+                tagCount,
+                IdCursor.decode(cursor),
+                limit + 1
+        );
+        List<Long> pageIds = ids.size() > limit ? ids.subList(0, limit) : ids;
+        String nextCursor = ids.size() > limit ? IdCursor.encode(pageIds.get(limit - 1)) : null;
+
+        Map<Long, Translation> byId = pageIds.isEmpty() ? Map.of()
+                : translationRepository.findAllWithLocaleAndTagsByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(Translation::getId, translation -> translation));
+        Long total = count ? translationRepository.countSearchTranslations(
+                searchRequest.getKey(), searchRequest.getContent(), searchRequest.getLocaleCode(), tagNames, tagCount) : null;
+
+        return new CursorPageDTO<>(
+                pageIds.stream().map(id -> translationMapper.toDTO(byId.get(id))).collect(Collectors.toList()),
+                limit,
+                nextCursor,
+                total,
+                facets ? countFacets(searchRequest, tagNames, tagCount) : null);
+    }
+
+    private SearchFacetsDTO countFacets(SearchRequestDTO searchRequest, List<String> tagNames, Integer tagCount) {
+        return new SearchFacetsDTO(
+                toCounts(translationRepository.countSearchTranslationsByTag(searchRequest.getKey(),
+                        searchRequest.getContent(), searchRequest.getLocaleCode(), tagNames, tagCount)),
+                toCounts(translationRepository.countSearchTranslationsByLocale(searchRequest.getKey(),
+                        searchRequest.getContent(), searchRequest.getLocaleCode(), tagNames, tagCount)));
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
     }
 
     @Transactional(readOnly = true)
     public List<TranslationResponseDTO> getTranslationsByTagName(String tagName) {
         return translationRepository.findByTagName(tagName).stream()
-                .map(this::mapToDTO)
+                .map(translationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<TranslationResponseDTO> getTranslationsByKeyPattern(String keyPattern) {
+        if (searchIndex.isReady()) {
+            return hydrate(searchIndex.findIdsByKey(keyPattern));
+        }
         return translationRepository.findByKeyContaining(keyPattern).stream()
-                .map(this::mapToDTO)
+                .map(translationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<TranslationResponseDTO> getTranslationsByContentPattern(String contentPattern) {
+        if (searchIndex.isReady()) {
+            return hydrate(searchIndex.findIdsByContent(contentPattern));
+        }
         return translationRepository.findByContentContaining(contentPattern).stream()
-                .map(this::mapToDTO)
+                .map(translationMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional
-    @CacheEvict(value = {"translations", "translationsByLocale", "allTranslationsJson"}, allEntries = true)
+    @CacheEvict(value = "translations", allEntries = true)
     public void deleteTranslation(Long id) {
-        if (!translationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Translation not found with id: " + id);
+        Translation translation = translationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Translation not found with id: " + id));
+
+        translationRepository.delete(translation);
+        tombstoneRepository.save(new TranslationTombstone(translation.getKey(), translation.getLocale()));
+        localeBundleCache.remove(referenceDictionary.describe(translation.getLocale()).getCode(), translation.getKey());
+        searchIndex.remove(translation.getId());
+    }
+
+    private void indexTranslation(Translation translation, List<String> tagNames) {
+        searchIndex.put(translation.getId(), translation.getKey(), translation.getContent(),
+                referenceDictionary.describe(translation.getLocale()).getCode(), tagNames);
+    }
+
+    private static List<Long> ids(long[] matches, int from, int to) {
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(matches[i]);
         }
-        translationRepository.deleteById(id);
-    }
-
-    private Set<Tag> getOrCreateTags(List<String> tagNames) {
-        Set<Tag> tags = new HashSet<>();
-        for (String tagName : tagNames) {
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> {
-                        // Create a new tag if not found
-                        Tag newTag = new Tag();
-                        newTag.setName(tagName);
-                        return tagRepository.save(newTag);
-                    });
-            tags.add(tag);
+        return ids;
+    }
+
+    // Loads the given ids with their locales and tags, keeping the order of the ids
+    private List<TranslationResponseDTO> hydrate(List<Long> ids) {
+        List<TranslationResponseDTO> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += HYDRATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + HYDRATE_CHUNK_SIZE, ids.size()));
+            Map<Long, Translation> byId = translationRepository.findAllWithLocaleAndTagsByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(Translation::getId, translation -> translation));
+            for (Long id : chunk) {
+                // Skips rows deleted by transactions that committed after the index was read
+                Translation translation = byId.get(id);
+                if (translation != null) {
+                    result.add(translationMapper.toDTO(translation));
+                }
+            }
         }
-        return tags;
-    }
-
-    private TranslationResponseDTO mapToDTO(Translation translation) {
-        return TranslationResponseDTO.builder()
-                .id(translation.getId())
-                .key(translation.getKey())
-                .content(translation.getContent())
-                .localeCode(translation.getLocale().getCode())
-                .localeName(translation.getLocale().getName())
-                .tags(translation.getTags().stream()
-                        .map(Tag::getName)
-                        .collect(Collectors.toList()))
-                .createdAt(translation.getCreatedAt())
-                .updatedAt(translation.getUpdatedAt())
-                .build();
+        return result;
+    }
+
+    private int scrollSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        return Math.min(size, MAX_SCROLL_SIZE);
+    }
+
+    // Locales are resolved from the dictionary and linked by reference, so their rows are never read
+    private LocaleInfo findLocale(String localeCode) {
+        return referenceDictionary.findLocale(localeCode)
+                .orElseThrow(() -> new ResourceNotFoundException("Locale not found with code: " + localeCode));
+    }
+
+    private static List<String> tagNames(TranslationRequestDTO requestDTO) {
+        return requestDTO.getTags() == null ? List.of() : requestDTO.getTags().stream().distinct().collect(Collectors.toList());
+    }
+
+    // Links tags by reference: a tag the resolver just created is committed in its own transaction
+    // and need not be visible to this one, so it is never read back here. Returns the stored names of
+    // the linked tags, which is what a later read of the translation shows
+    private List<String> addTags(Translation translation, List<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> linked = new LinkedHashMap<>();
+        for (TagInfo tag : tagResolver.resolve(tagNames).values()) {
+            if (linked.putIfAbsent(tag.getId(), tag.getName()) == null) {
+                translation.addTag(tagRepository.getReferenceById(tag.getId()));
+            }
+        }
+        return new ArrayList<>(linked.values());
     }
-}
\ No newline at end of file
+}
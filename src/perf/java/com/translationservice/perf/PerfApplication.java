@@ -0,0 +1,62 @@
+package com.translationservice.perf;
+
+import com.translationservice.TranslationServiceApplication;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.search.TranslationSearchIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the application against a private in-memory H2 database and seeds it, for benchmarks and
+ * load tests. The schema comes from the entities, as in the repository tests.
+ */
+public final class PerfApplication {
+
+    private PerfApplication() {
+    }
+
+    /**
+     * @param port the HTTP port, {@code 0} for any free one; the security configuration needs the web
+     *             layer, so a server always starts
+     * @param overrides further properties, e.g. to switch on virtual threads
+     */
+    public static ConfigurableApplicationContext start(PerfDataset dataset, int port, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        // One database per context, so several contexts can run in one JVM
+        properties.put("spring.datasource.url", "jdbc:h2:mem:perf-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.liquibase.enabled", "false");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("app.data.populate", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("server.port", port);
+        // Any free port, so several contexts can run side by side
+        properties.put("management.server.port", 0);
+        properties.putAll(overrides);
+
+        // Passed as command-line arguments, which take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TranslationServiceApplication.class)
+                .run(args);
+
+        // The in-memory structures were built when the application became ready, before the data existed
+        dataset.seed(context);
+        context.getBean(ReferenceDictionary.class).refresh();
+        TranslationSearchIndex searchIndex = context.getBean(TranslationSearchIndex.class);
+        if (Boolean.parseBoolean(context.getEnvironment().getProperty("app.search.index.enabled", "true"))) {
+            searchIndex.rebuild();
+        }
+        return context;
+    }
+}
@@ -0,0 +1,107 @@
+package com.translationservice.perf;
+
+import com.translationservice.cache.TagInfo;
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.model.Locale;
+import com.translationservice.repository.IdBlockAllocator;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TranslationJdbcRepository;
+import com.translationservice.service.TagResolver;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A deterministic dataset: the same keys in every locale, each row linked to two of the tags.
+ * Rows are written through the application's own JDBC batch paths and id allocator, so writes
+ * made later through the API get fresh ids.
+ */
+public final class PerfDataset {
+
+    public static final List<String> LOCALE_CODES = List.of("en", "fr", "de", "es", "it", "pt", "nl", "sv", "ja", "zh");
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final int locales;
+    private final int rowsPerLocale;
+    private final int tags;
+
+    public PerfDataset(int locales, int rowsPerLocale, int tags) {
+        if (locales < 1 || locales > LOCALE_CODES.size()) {
+            throw new IllegalArgumentException("locales must be between 1 and " + LOCALE_CODES.size() + ": " + locales);
+        }
+        this.locales = locales;
+        this.rowsPerLocale = rowsPerLocale;
+        this.tags = Math.max(1, tags);
+    }
+
+    /**
+     * Reads {@code perf.locales}, {@code perf.rowsPerLocale} and {@code perf.tags}, with small defaults.
+     */
+    public static PerfDataset fromSystemProperties() {
+        return new PerfDataset(Integer.getInteger("perf.locales", 3),
+                Integer.getInteger("perf.rowsPerLocale", 10_000),
+                Integer.getInteger("perf.tags", 20));
+    }
+
+    public List<String> localeCodes() {
+        return LOCALE_CODES.subList(0, locales);
+    }
+
+    public int getRowsPerLocale() {
+        return rowsPerLocale;
+    }
+
+    public static String key(int row) {
+        return "section" + (row % 100) + ".item" + row;
+    }
+
+    public static String tagName(int tag) {
+        return "tag-" + tag;
+    }
+
+    void seed(ApplicationContext context) {
+        LocaleRepository localeRepository = context.getBean(LocaleRepository.class);
+        TranslationJdbcRepository translationJdbcRepository = context.getBean(TranslationJdbcRepository.class);
+        IdBlockAllocator idBlockAllocator = context.getBean(IdBlockAllocator.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < tags; i++) {
+            names.add(tagName(i));
+        }
+        List<Long> tagIds = context.getBean(TagResolver.class).resolve(names).values().stream()
+                .map(TagInfo::getId)
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (String code : localeCodes()) {
+            Locale locale = localeRepository.save(Locale.builder().code(code).name(code.toUpperCase()).build());
+            for (int from = 0; from < rowsPerLocale; from += BATCH_SIZE) {
+                int to = Math.min(from + BATCH_SIZE, rowsPerLocale);
+                List<TranslationEntryDTO> entries = new ArrayList<>(to - from);
+                Map<Long, Set<Long>> links = new HashMap<>();
+                long firstId = idBlockAllocator.allocate(IdBlockAllocator.TRANSLATIONS, to - from);
+                for (int row = from; row < to; row++) {
+                    entries.add(new TranslationEntryDTO(key(row), "Content " + code + " " + row + " lorem ipsum dolor"));
+                    Set<Long> rowTags = new LinkedHashSet<>();
+                    rowTags.add(tagIds.get(row % tagIds.size()));
+                    rowTags.add(tagIds.get((row / 7) % tagIds.size()));
+                    links.put(firstId + (row - from), rowTags);
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    translationJdbcRepository.batchInsert(firstId, locale.getId(), entries, now);
+                    translationJdbcRepository.batchInsertTagLinks(links);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.translationservice.perf.jmh;
+
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.LocaleBundleLoader;
+import com.translationservice.model.Locale;
+import com.translationservice.model.Translation;
+import com.translationservice.perf.PerfApplication;
+import com.translationservice.perf.PerfDataset;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the bundle behind {@code GET /api/translations/locale/{code}}: the streamed (key, content)
+ * projection the loader uses, against loading full entities with {@code findByLocale} as it used to.
+ * Run with {@code -prof gc} to compare allocation per build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BundleBuildBenchmark {
+
+    @Param({"10000", "100000"})
+    int rowsPerLocale;
+
+    private ConfigurableApplicationContext context;
+    private LocaleBundleLoader localeBundleLoader;
+    private TranslationRepository translationRepository;
+    private TransactionTemplate transactionTemplate;
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        context = PerfApplication.start(new PerfDataset(1, rowsPerLocale, 20), 0,
+                Map.of("app.search.index.enabled", "false"));
+        localeBundleLoader = context.getBean(LocaleBundleLoader.class);
+        translationRepository = context.getBean(TranslationRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        locale = context.getBean(LocaleRepository.class).findByCode("en").orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LocaleBundle projection() {
+        return localeBundleLoader.loadBundle("en");
+    }
+
+    @Benchmark
+    public Map<String, String> entities() {
+        return transactionTemplate.execute(status -> {
+            Map<String, String> translations = new HashMap<>();
+            for (Translation translation : translationRepository.findByLocale(locale)) {
+                translations.put(translation.getKey(), translation.getContent());
+            }
+            return translations;
+        });
+    }
+}
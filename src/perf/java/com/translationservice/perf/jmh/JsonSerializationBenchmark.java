@@ -0,0 +1,101 @@
+package com.translationservice.perf.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.perf.PerfDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing response bodies: a list of translation DTOs as the list endpoints return it, and the
+ * full export, once through Jackson from the maps and once stitched from the bundles' cached bodies
+ * as {@link TranslationExport} does. Needs no database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    int dtoCount;
+
+    @Param({"10000"})
+    int rowsPerLocale;
+
+    @Param({"3"})
+    int locales;
+
+    private ObjectMapper objectMapper;
+    private List<TranslationResponseDTO> responses;
+    private List<LocaleBundle> bundles;
+    private Map<String, Map<String, String>> exportMap;
+
+    @Setup
+    public void setUp() {
+        // Configured the way Spring Boot configures the application's mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        responses = new ArrayList<>(dtoCount);
+        for (int i = 0; i < dtoCount; i++) {
+            responses.add(TranslationResponseDTO.builder()
+                    .id((long) i)
+                    .key(PerfDataset.key(i))
+                    .content("Content en " + i + " lorem ipsum dolor")
+                    .localeCode("en")
+                    .localeName("EN")
+                    .tags(List.of(PerfDataset.tagName(i % 20), PerfDataset.tagName((i / 7) % 20)))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        bundles = new ArrayList<>();
+        exportMap = new HashMap<>();
+        for (String code : PerfDataset.LOCALE_CODES.subList(0, locales)) {
+            Map<String, String> translations = new HashMap<>();
+            for (int row = 0; row < rowsPerLocale; row++) {
+                translations.put(PerfDataset.key(row), "Content " + code + " " + row + " lorem ipsum dolor");
+            }
+            bundles.add(new LocaleBundle(code, 0L, translations, null));
+            exportMap.put(code, translations);
+        }
+    }
+
+    @Benchmark
+    public byte[] responseList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] exportWithJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(exportMap);
+    }
+
+    @Benchmark
+    public TranslationExport exportFromBundleBodies() {
+        return new TranslationExport(bundles);
+    }
+}
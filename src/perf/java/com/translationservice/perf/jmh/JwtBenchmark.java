@@ -0,0 +1,72 @@
+package com.translationservice.perf.jmh;
+
+import com.translationservice.security.JwtTokenProvider;
+import com.translationservice.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request JWT path: verifying a token a client keeps reusing, with the verified-token cache
+ * and with every request parsing and checking the signature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"10000", "0"})
+    long cacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider();
+        // The provider is configured through package-private fields and its @PostConstruct method
+        set("secretKey", "verySecretKey12345678901234567890");
+        set("cacheSize", cacheSize);
+        Method init = JwtTokenProvider.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtTokenProvider);
+
+        token = jwtTokenProvider.createToken(new UsernamePasswordAuthenticationToken("user", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtTokenProvider.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.verify(token).orElseThrow().toAuthentication();
+    }
+}
@@ -0,0 +1,92 @@
+package com.translationservice.perf.jmh;
+
+import com.translationservice.dto.CursorPageDTO;
+import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.model.Translation;
+import com.translationservice.perf.PerfApplication;
+import com.translationservice.perf.PerfDataset;
+import com.translationservice.repository.TranslationRepository;
+import com.translationservice.service.TranslationMapper;
+import com.translationservice.service.TranslationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mapping translations to response DTOs: the {@link TranslationMapper} alone over already loaded rows,
+ * and a whole {@code /scroll} page including its queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationMappingBenchmark {
+
+    @Param({"100", "1000"})
+    int pageSize;
+
+    @Param({"10000"})
+    int rowsPerLocale;
+
+    private ConfigurableApplicationContext context;
+    private TranslationService translationService;
+    private TranslationMapper translationMapper;
+    private List<Translation> translations;
+
+    @Setup
+    public void setUp() {
+        context = PerfApplication.start(new PerfDataset(3, rowsPerLocale, 20), 0,
+                Map.of("app.search.index.enabled", "false"));
+        translationService = context.getBean(TranslationService.class);
+        translationMapper = context.getBean(TranslationMapper.class);
+        TranslationRepository translationRepository = context.getBean(TranslationRepository.class);
+        // Loaded with locales and tags inside a transaction, then mapped detached
+        translations = new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status -> {
+            List<Long> ids = translationRepository.findPageAfterId(0L, PageRequest.of(0, pageSize)).stream()
+                    .map(Translation::getId)
+                    .collect(Collectors.toList());
+            return translationRepository.findAllWithLocaleAndTagsByIdIn(ids);
+        });
+        if (translations.size() < pageSize) {
+            throw new IllegalStateException("Dataset has fewer rows than the page size");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void mapToDTO(Blackhole blackhole) {
+        for (Translation translation : translations) {
+            blackhole.consume(translationMapper.toDTO(translation));
+        }
+    }
+
+    @Benchmark
+    public CursorPageDTO<TranslationResponseDTO> scrollPage() {
+        return translationService.scrollTranslations(null, pageSize, false);
+    }
+}
@@ -0,0 +1,227 @@
+package com.translationservice.perf.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translationservice.perf.PerfApplication;
+import com.translationservice.perf.PerfDataset;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-to-end HTTP load test. Boots the application on a seeded in-memory H2 database, drives a
+ * weighted mix of requests from a fixed number of concurrent clients and records per-operation
+ * latency histograms. With {@code perf.threads=platform,virtual} the same load runs once per
+ * request-thread mode, each against a fresh application.
+ *
+ * <p>Clients are closed-loop: each sends its next request when the previous one completes, so the
+ * numbers describe the service at the throughput it sustained, not at a fixed arrival rate.
+ *
+ * <p>Configured with system properties:
+ * <ul>
+ *     <li>{@code perf.locales}, {@code perf.rowsPerLocale}, {@code perf.tags}: the dataset, see {@link PerfDataset}</li>
+ *     <li>{@code perf.mix}: operation weights, default {@code locale=60,search=25,write=10,export=5}</li>
+ *     <li>{@code perf.concurrency}: concurrent clients, default 32</li>
+ *     <li>{@code perf.warmupSeconds}, {@code perf.durationSeconds}: default 10 and 30</li>
+ *     <li>{@code perf.threads}: comma-separated {@code platform} and/or {@code virtual}, default both</li>
+ *     <li>{@code perf.properties}: further application properties, e.g. {@code app.db.bulkhead.enabled=true}</li>
+ *     <li>{@code perf.output}: directory for the results, default {@code target/load-test}</li>
+ * </ul>
+ * Each run writes one {@code <mode>-<operation>.hgrm} percentile distribution per operation, and
+ * {@code summary.json} collects the figures of all runs.
+ */
+public final class LoadTest {
+
+    // Latencies are recorded in microseconds, up to a minute at three significant digits
+    private static final long HIGHEST_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(1);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        PerfDataset dataset = PerfDataset.fromSystemProperties();
+        LoadMix mix = LoadMix.parse(System.getProperty("perf.mix", "locale=60,search=25,write=10,export=5"));
+        int concurrency = Integer.getInteger("perf.concurrency", 32);
+        Duration warmup = Duration.ofSeconds(Long.getLong("perf.warmupSeconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("perf.durationSeconds", 30));
+        String threads = System.getProperty("perf.threads", "platform,virtual");
+        Map<String, Object> overrides = parseProperties(System.getProperty("perf.properties", ""));
+        Path output = Path.of(System.getProperty("perf.output", "target/load-test"));
+        Files.createDirectories(output);
+
+        List<Map<String, Object>> summary = new ArrayList<>();
+        for (String mode : threads.split(",")) {
+            mode = mode.trim();
+            if (!mode.equals("platform") && !mode.equals("virtual")) {
+                throw new IllegalArgumentException("perf.threads must list platform and/or virtual: " + threads);
+            }
+            Map<String, Object> properties = new HashMap<>(overrides);
+            properties.put("app.threads.virtual.enabled", mode.equals("virtual"));
+
+            try (ConfigurableApplicationContext context = PerfApplication.start(dataset, 0, properties)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String token = context.getEnvironment().getProperty("app.security.token", "translation-service-token");
+                System.out.printf("%n%s threads: %d clients, %s warm-up, %s measured, %d rows per locale in %d locales%n",
+                        mode, concurrency, warmup, duration, dataset.getRowsPerLocale(), dataset.localeCodes().size());
+
+                Map<Operation, OperationStats> results = run(URI.create("http://localhost:" + port), token,
+                        dataset, mix, concurrency, warmup, duration);
+                summary.addAll(report(mode, results, duration, output));
+            }
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.resolve("summary.json").toFile(), summary);
+        System.out.println("\nResults written to " + output.toAbsolutePath());
+    }
+
+    static Map<Operation, OperationStats> run(URI base, String token, PerfDataset dataset, LoadMix mix,
+                                              int concurrency, Duration warmup, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<Operation, OperationStats>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> drive(client, base, token, dataset, mix, measureFrom, stopAt)));
+            }
+            Map<Operation, OperationStats> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, OperationStats>> future : futures) {
+                future.get().forEach((operation, stats) ->
+                        merged.computeIfAbsent(operation, o -> new OperationStats()).add(stats));
+            }
+            return merged;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    // One client: requests back to back until the end, recording only those started after the warm-up
+    private static Map<Operation, OperationStats> drive(HttpClient client, URI base, String token, PerfDataset dataset,
+                                                        LoadMix mix, long measureFrom, long stopAt) throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : mix.operations()) {
+            stats.put(operation, new OperationStats());
+        }
+        long start;
+        while ((start = System.nanoTime()) < stopAt) {
+            Operation operation = mix.next();
+            HttpRequest request = operation.request(base, dataset)
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(REQUEST_TIMEOUT)
+                    .build();
+            boolean succeeded;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                succeeded = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                succeeded = false;
+            }
+            if (start >= measureFrom) {
+                stats.get(operation).record(System.nanoTime() - start, succeeded);
+            }
+        }
+        return stats;
+    }
+
+    private static List<Map<String, Object>> report(String mode, Map<Operation, OperationStats> results,
+                                                    Duration duration, Path output) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        System.out.printf("%-8s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, OperationStats> entry : results.entrySet()) {
+            String operation = entry.getKey().name().toLowerCase(Locale.ROOT);
+            Histogram histogram = entry.getValue().histogram;
+            long errors = entry.getValue().errors;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("threads", mode);
+            row.put("operation", operation);
+            row.put("requests", histogram.getTotalCount());
+            row.put("errors", errors);
+            row.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            row.put("meanMs", histogram.getMean() / 1000.0);
+            row.put("p50Ms", millis(histogram, 50));
+            row.put("p90Ms", millis(histogram, 90));
+            row.put("p99Ms", millis(histogram, 99));
+            row.put("p999Ms", millis(histogram, 99.9));
+            row.put("maxMs", histogram.getMaxValue() / 1000.0);
+            rows.add(row);
+
+            System.out.printf("%-8s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", operation,
+                    histogram.getTotalCount(), errors, row.get("throughputPerSecond"), row.get("p50Ms"),
+                    row.get("p90Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(output.resolve(mode + "-" + operation + ".hgrm")))) {
+                // Scaled so the distribution reads in milliseconds
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        return rows;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Map<String, Object> parseProperties(String spec) {
+        Map<String, Object> properties = new HashMap<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int separator = part.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected name=value in perf.properties: " + part);
+            }
+            properties.put(part.substring(0, separator).trim(), part.substring(separator + 1).trim());
+        }
+        return properties;
+    }
+
+    /**
+     * Latencies of successful requests, and the number that failed; not thread-safe, each client
+     * keeps its own until they are merged.
+     */
+    static final class OperationStats {
+
+        final Histogram histogram = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+        long errors;
+
+        void record(long nanos, boolean succeeded) {
+            if (succeeded) {
+                histogram.recordValue(Math.min(nanos / 1000, HIGHEST_LATENCY_MICROS));
+            } else {
+                errors++;
+            }
+        }
+
+        void add(OperationStats other) {
+            histogram.add(other.histogram);
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.translationservice.perf.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationRequestDTO;
+import com.translationservice.perf.PerfDataset;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The requests the load test sends. Reads pick a random locale or key from the seeded dataset;
+ * writes create a new translation each time, which also invalidates that locale's bundle.
+ */
+enum Operation {
+
+    LOCALE {
+        @Override
+        HttpRequest.Builder request(URI base, PerfDataset dataset) {
+            return HttpRequest.newBuilder(base.resolve("/api/translations/locale/" + randomLocale(dataset))).GET();
+        }
+    },
+    EXPORT {
+        @Override
+        HttpRequest.Builder request(URI base, PerfDataset dataset) {
+            return HttpRequest.newBuilder(base.resolve("/api/translations/export")).GET();
+        }
+    },
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(URI base, PerfDataset dataset) {
+            SearchRequestDTO search = SearchRequestDTO.builder()
+                    .key("item" + ThreadLocalRandom.current().nextInt(dataset.getRowsPerLocale()))
+                    .localeCode(randomLocale(dataset))
+                    .size(20)
+                    .build();
+            return json(HttpRequest.newBuilder(base.resolve("/api/translations/search")), search);
+        }
+    },
+    WRITE {
+        @Override
+        HttpRequest.Builder request(URI base, PerfDataset dataset) {
+            long sequence = WRITES.incrementAndGet();
+            TranslationRequestDTO translation = TranslationRequestDTO.builder()
+                    .key("load.item" + sequence)
+                    .content("Load test content " + sequence)
+                    .localeCode(randomLocale(dataset))
+                    .tags(List.of(PerfDataset.tagName(0), "load-test"))
+                    .build();
+            return json(HttpRequest.newBuilder(base.resolve("/api/translations")), translation);
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Keys stay unique across runs in the same JVM, each of which has its own database anyway
+    private static final AtomicLong WRITES = new AtomicLong();
+
+    abstract HttpRequest.Builder request(URI base, PerfDataset dataset);
+
+    private static String randomLocale(PerfDataset dataset) {
+        List<String> codes = dataset.localeCodes();
+        return codes.get(ThreadLocalRandom.current().nextInt(codes.size()));
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder builder, Object body) {
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+}
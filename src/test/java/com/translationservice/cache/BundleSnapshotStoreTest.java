@@ -0,0 +1,73 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BundleSnapshotStoreTest {
+
+    private final BundleSnapshotStore snapshotStore = new BundleSnapshotStore();
+
+    @Test
+    void put_AddsBundleAndKeepsOtherLocales() {
+        // Arrange
+        LocaleBundle en = new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null);
+        LocaleBundle fr = new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), null);
+        snapshotStore.put(en);
+        Map<String, LocaleBundle> before = snapshotStore.getAll();
+
+        // Act
+        boolean stored = snapshotStore.put(fr);
+
+        // Assert
+        assertTrue(stored);
+        assertSame(en, snapshotStore.get("en"));
+        assertSame(fr, snapshotStore.get("fr"));
+        assertEquals(1, before.size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshotStore.getAll().remove("en"));
+    }
+
+    @Test
+    void put_WithOlderVersion_KeepsNewerBundle() {
+        // Arrange
+        LocaleBundle newer = new LocaleBundle("en", 2L, Map.of("greeting", "Hi"), null);
+        snapshotStore.put(newer);
+
+        // Act
+        boolean stored = snapshotStore.put(new LocaleBundle("en", 1L, Map.of("greeting", "Hello"), null));
+
+        // Assert
+        assertFalse(stored);
+        assertSame(newer, snapshotStore.get("en"));
+    }
+
+    @Test
+    void get_ForUnknownLocale_ReturnsNull() {
+        assertNull(snapshotStore.get("de"));
+        assertTrue(snapshotStore.getAll().isEmpty());
+    }
+
+    @Test
+    void put_WhenAnotherPutLandsFirst_RetriesOnTheNewSnapshot() {
+        // Arrange
+        snapshotStore.put(new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null));
+        LocaleBundle fr = new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), null);
+        LocaleBundle en = spy(new LocaleBundle("en", 1L, Map.of("greeting", "Hi"), null));
+        // Another writer swaps in a new map between this put reading the snapshot and replacing it
+        doAnswer(invocation -> {
+            snapshotStore.put(fr);
+            return 1L;
+        }).doCallRealMethod().when(en).getVersion();
+
+        // Act
+        boolean stored = snapshotStore.put(en);
+
+        // Assert
+        assertTrue(stored);
+        assertSame(en, snapshotStore.get("en"));
+        assertSame(fr, snapshotStore.get("fr"));
+    }
+}
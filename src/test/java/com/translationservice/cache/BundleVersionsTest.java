@@ -0,0 +1,27 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BundleVersionsTest {
+
+    private final BundleVersions bundleVersions = new BundleVersions();
+
+    @Test
+    void current_ForUnknownLocale_IsZero() {
+        assertEquals(0L, bundleVersions.current("en"));
+        assertEquals(0L, bundleVersions.global());
+    }
+
+    @Test
+    void bump_AdvancesOnlyTheAffectedLocaleAndTheGlobalVersion() {
+        bundleVersions.bump("en");
+        long version = bundleVersions.bump("en");
+
+        assertEquals(2L, version);
+        assertEquals(2L, bundleVersions.current("en"));
+        assertEquals(0L, bundleVersions.current("fr"));
+        assertEquals(2L, bundleVersions.global());
+    }
+}
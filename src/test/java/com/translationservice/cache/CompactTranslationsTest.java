@@ -0,0 +1,125 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactTranslationsTest {
+
+    private final BundleKeyDictionary keyDictionary = new BundleKeyDictionary();
+
+    @Test
+    void of_SortsKeysAndLooksThemUp() {
+        // Act
+        CompactTranslations translations = CompactTranslations.of(
+                Map.of("b", "Bee", "c", "Sea", "a", "Ay"), keyDictionary);
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), List.copyOf(translations.keySet()));
+        assertEquals("Bee", translations.get("b"));
+        assertTrue(translations.containsKey("c"));
+        assertNull(translations.get("d"));
+        assertFalse(translations.containsKey(1));
+        assertEquals(Map.of("a", "Ay", "b", "Bee", "c", "Sea"), translations);
+    }
+
+    @Test
+    void of_SharesKeyInstancesAcrossLocales() {
+        // Arrange
+        Map<String, String> english = Map.of(new String("greeting"), "Hello");
+        Map<String, String> french = Map.of(new String("greeting"), "Bonjour");
+
+        // Act
+        CompactTranslations en = CompactTranslations.of(english, keyDictionary);
+        CompactTranslations fr = CompactTranslations.of(french, keyDictionary);
+
+        // Assert
+        assertSame(en.keySet().iterator().next(), fr.keySet().iterator().next());
+        assertEquals(1, keyDictionary.size());
+    }
+
+    @Test
+    void of_WithCompactTranslations_ReturnsSameInstance() {
+        // Arrange
+        CompactTranslations translations = CompactTranslations.of(Map.of("a", "Ay"), keyDictionary);
+
+        // Act & Assert
+        assertSame(translations, CompactTranslations.of(translations, keyDictionary));
+    }
+
+    @Test
+    void with_NewKey_InsertsInOrderAndLeavesOriginalUnchanged() {
+        // Arrange
+        CompactTranslations translations = CompactTranslations.of(Map.of("a", "Ay", "c", "Sea"), keyDictionary);
+
+        // Act
+        CompactTranslations changed = translations.with("b", "Bee");
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), List.copyOf(changed.keySet()));
+        assertEquals("Bee", changed.get("b"));
+        assertEquals(2, translations.size());
+        assertNull(translations.get("b"));
+    }
+
+    @Test
+    void with_ExistingKey_ReplacesContent() {
+        // Arrange
+        CompactTranslations translations = CompactTranslations.of(Map.of("a", "Ay", "b", "Bee"), keyDictionary);
+
+        // Act
+        CompactTranslations changed = translations.with("b", "Be");
+
+        // Assert
+        assertEquals(Map.of("a", "Ay", "b", "Be"), changed);
+        assertEquals("Bee", translations.get("b"));
+        assertSame(translations, translations.with("a", "Ay"));
+    }
+
+    @Test
+    void without_RemovesKeyOrReturnsSameInstanceIfAbsent() {
+        // Arrange
+        CompactTranslations translations = CompactTranslations.of(Map.of("a", "Ay", "b", "Bee", "c", "Sea"), keyDictionary);
+
+        // Act
+        CompactTranslations changed = translations.without("b");
+
+        // Assert
+        assertEquals(Map.of("a", "Ay", "c", "Sea"), changed);
+        assertEquals(3, translations.size());
+        assertSame(translations, translations.without("d"));
+    }
+
+    @Test
+    void mutators_ThrowUnsupportedOperationException() {
+        // Arrange
+        CompactTranslations translations = CompactTranslations.of(new HashMap<>(Map.of("a", "Ay")), null);
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> translations.put("b", "Bee"));
+        assertThrows(UnsupportedOperationException.class, () -> translations.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> translations.entrySet().iterator().next().setValue("x"));
+    }
+
+    @Test
+    void entrySet_ReportsSizeAndStopsAtTheLastEntry() {
+        // Arrange
+        CompactTranslations translations = CompactTranslations.of(Map.of("a", "Ay", "b", "Bee"), keyDictionary);
+        Iterator<Map.Entry<String, String>> entries = translations.entrySet().iterator();
+
+        // Act
+        entries.next();
+        entries.next();
+
+        // Assert
+        assertEquals(2, translations.entrySet().size());
+        assertFalse(entries.hasNext());
+        assertThrows(NoSuchElementException.class, entries::next);
+    }
+}
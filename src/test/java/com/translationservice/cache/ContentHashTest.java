@@ -0,0 +1,29 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashTest {
+
+    @Test
+    void toETag_SeparatesAdjacentValues() {
+        assertNotEquals(new ContentHash().add("ab").add("c").toETag(), new ContentHash().add("a").add("bc").toETag());
+        assertEquals(new ContentHash().add("ab").toETag(), new ContentHash().add("ab").toETag());
+    }
+
+    @Test
+    void constructor_WithoutSha256_ThrowsIllegalStateException() {
+        try (MockedStatic<MessageDigest> messageDigest = Mockito.mockStatic(MessageDigest.class)) {
+            messageDigest.when(() -> MessageDigest.getInstance("SHA-256"))
+                    .thenThrow(new NoSuchAlgorithmException("SHA-256"));
+
+            assertThrows(IllegalStateException.class, ContentHash::new);
+        }
+    }
+}
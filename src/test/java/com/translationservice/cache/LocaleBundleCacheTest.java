@@ -0,0 +1,551 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocaleBundleCacheTest {
+
+    @Mock
+    private LocaleBundleLoader localeBundleLoader;
+
+    @Mock
+    private ReferenceDictionary referenceDictionary;
+
+    private BundleVersions bundleVersions;
+    private BundleSnapshotStore snapshotStore;
+    private ConcurrentMapCacheManager cacheManager;
+    private LocaleBundleCache localeBundleCache;
+    private Cache bundles;
+    private Cache exports;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("translationsByLocale", "allTranslationsJson");
+        bundleVersions = new BundleVersions();
+        snapshotStore = new BundleSnapshotStore();
+        localeBundleCache = new LocaleBundleCache(cacheManager, localeBundleLoader, bundleVersions,
+                snapshotStore, referenceDictionary, Runnable::run);
+        bundles = cacheManager.getCache("translationsByLocale");
+        exports = cacheManager.getCache("allTranslationsJson");
+
+        bundles.put("en", new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null));
+        bundles.put("fr", new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), null));
+    }
+
+    // A cache serving stale bundles whose background loads run on the given executor
+    private LocaleBundleCache staleWhileRevalidate(Executor revalidationExecutor) {
+        LocaleBundleCache cache = new LocaleBundleCache(cacheManager, localeBundleLoader, bundleVersions,
+                snapshotStore, referenceDictionary, revalidationExecutor);
+        ReflectionTestUtils.setField(cache, "staleWhileRevalidate", true);
+        return cache;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getBundle_WithCurrentCachedBundle_DoesNotLoad() {
+        // Act
+        LocaleBundle bundle = localeBundleCache.getBundle("en");
+
+        // Assert
+        assertEquals("Hello", bundle.getTranslations().get("greeting"));
+        verifyNoInteractions(localeBundleLoader);
+    }
+
+    @Test
+    void getCachedBundle_ReturnsCachedBundleEvenIfStale_WithoutLoading() {
+        // Arrange
+        bundleVersions.bump("en");
+
+        // Act & Assert
+        assertEquals("Hello", localeBundleCache.getCachedBundle("en").getTranslations().get("greeting"));
+        assertNull(localeBundleCache.getCachedBundle("de"));
+        verifyNoInteractions(localeBundleLoader);
+    }
+
+    @Test
+    void getBundle_WithStaleCachedBundle_ReloadsAndCaches() {
+        // Arrange
+        bundleVersions.bump("en");
+        LocaleBundle fresh = new LocaleBundle("en", 1L, Map.of("greeting", "Hi"), null);
+        when(localeBundleLoader.loadBundle("en")).thenReturn(fresh);
+
+        // Act
+        LocaleBundle bundle = localeBundleCache.getBundle("en");
+
+        // Assert
+        assertSame(fresh, bundle);
+        assertSame(fresh, bundles.get("en").get());
+    }
+
+    @Test
+    void getBundle_WithMissingBundle_LoadsAndCaches() {
+        // Arrange
+        LocaleBundle loaded = new LocaleBundle("de", 0L, Map.of("greeting", "Hallo"), null);
+        when(localeBundleLoader.loadBundle("de")).thenReturn(loaded);
+
+        // Act
+        localeBundleCache.getBundle("de");
+        localeBundleCache.getBundle("de");
+
+        // Assert
+        verify(localeBundleLoader, times(1)).loadBundle("de");
+    }
+
+    @Test
+    void getBundle_ConcurrentMisses_ShareOneLoad() throws Exception {
+        // Arrange
+        bundles.evict("en");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LocaleBundle fresh = new LocaleBundle("en", 0L, Map.of("greeting", "Hi"), null);
+        when(localeBundleLoader.loadBundle("en")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return fresh;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            List<Future<LocaleBundle>> results = new ArrayList<>();
+            results.add(executor.submit(() -> localeBundleCache.getBundle("en")));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> localeBundleCache.getBundle("en")));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            // Assert
+            for (Future<LocaleBundle> result : results) {
+                assertSame(fresh, result.get(5, TimeUnit.SECONDS));
+            }
+            verify(localeBundleLoader, times(1)).loadBundle("en");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getBundle_AfterFailedLoad_TriesAgain() {
+        // Arrange
+        bundles.evict("en");
+        LocaleBundle fresh = new LocaleBundle("en", 0L, Map.of("greeting", "Hi"), null);
+        when(localeBundleLoader.loadBundle("en")).thenThrow(new IllegalStateException("down")).thenReturn(fresh);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> localeBundleCache.getBundle("en"));
+        assertSame(fresh, localeBundleCache.getBundle("en"));
+    }
+
+    @Test
+    void getBundle_WithStaleWhileRevalidate_ServesPreviousBundleAndReloadsInBackground() {
+        // Arrange
+        List<Runnable> revalidations = new ArrayList<>();
+        localeBundleCache = staleWhileRevalidate(revalidations::add);
+        LocaleBundle previous = (LocaleBundle) bundles.get("en").get();
+        LocaleBundle fresh = new LocaleBundle("en", 1L, Map.of("greeting", "Hi"), null);
+        localeBundleCache.put("en", "greeting", "Hi");
+
+        // Act
+        LocaleBundle served = localeBundleCache.getBundle("en");
+        LocaleBundle servedAgain = localeBundleCache.getBundle("en");
+
+        // Assert
+        assertSame(previous, served);
+        assertSame(previous, servedAgain);
+        verifyNoInteractions(localeBundleLoader);
+        assertEquals(1, revalidations.size());
+
+        when(localeBundleLoader.loadBundle("en")).thenReturn(fresh);
+        revalidations.get(0).run();
+        assertSame(fresh, localeBundleCache.getBundle("en"));
+        verify(localeBundleLoader, times(1)).loadBundle("en");
+    }
+
+    @Test
+    void getBundle_ConcurrentMissWhenSharedLoadFails_ThrowsLoadFailure() throws Exception {
+        // Arrange
+        bundles.evict("en");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(localeBundleLoader.loadBundle("en")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("down");
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<LocaleBundle> loader = executor.submit(() -> localeBundleCache.getBundle("en"));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<LocaleBundle> joiner = executor.submit(() -> localeBundleCache.getBundle("en"));
+            Thread.sleep(50);
+            release.countDown();
+
+            // Assert
+            for (Future<LocaleBundle> result : List.of(loader, joiner)) {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, exception.getCause());
+            }
+            verify(localeBundleLoader, times(1)).loadBundle("en");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getBundle_WithStaleWhileRevalidateAndFailedReload_KeepsServingPreviousBundle() {
+        // Arrange
+        List<Runnable> revalidations = new ArrayList<>();
+        localeBundleCache = staleWhileRevalidate(revalidations::add);
+        LocaleBundle previous = (LocaleBundle) bundles.get("en").get();
+        localeBundleCache.put("en", "greeting", "Hi");
+        when(localeBundleLoader.loadBundle("en")).thenThrow(new IllegalStateException("down"));
+
+        // Act
+        localeBundleCache.getBundle("en");
+        revalidations.get(0).run();
+        LocaleBundle served = localeBundleCache.getBundle("en");
+
+        // Assert
+        assertSame(previous, served);
+        assertEquals(2, revalidations.size());
+    }
+
+    @Test
+    void getBundle_WithStaleWhileRevalidateAndRejectedReload_ThrowsAndReleasesLoad() {
+        // Arrange
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        List<Runnable> revalidations = new ArrayList<>();
+        localeBundleCache = staleWhileRevalidate(task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            revalidations.add(task);
+        });
+        localeBundleCache.put("en", "greeting", "Hi");
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> localeBundleCache.getBundle("en"));
+        saturated.set(false);
+        localeBundleCache.getBundle("en");
+        assertEquals(1, revalidations.size());
+    }
+
+    @Test
+    void getExport_WithStaleWhileRevalidate_WaitsForCurrentBundles() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "staleWhileRevalidate", true);
+        LocaleBundle fresh = new LocaleBundle("en", 1L, Map.of("greeting", "Hi"), null);
+        localeBundleCache.put("en", "greeting", "Hi");
+        when(localeBundleLoader.loadBundle("en")).thenReturn(fresh);
+
+        // Act
+        TranslationExport export = localeBundleCache.getExport(() -> List.of("en", "fr"));
+
+        // Assert
+        assertEquals("Hi", export.getTranslations().get("en").get("greeting"));
+    }
+
+    @Test
+    void getExport_SharesLocaleBundlesAndIsCachedPerGlobalVersion() {
+        // Act
+        TranslationExport export = localeBundleCache.getExport(() -> List.of("en", "fr"));
+        TranslationExport again = localeBundleCache.getExport(() -> {
+            throw new AssertionError("locale codes should not be read on a cache hit");
+        });
+
+        // Assert
+        assertSame(export, again);
+        assertSame(((LocaleBundle) bundles.get("en").get()).getTranslations(), export.getTranslations().get("en"));
+        assertEquals(List.of("en", "fr"), List.copyOf(export.getTranslations().keySet()));
+    }
+
+    @Test
+    void put_WithoutPatchInPlace_EvictsOnlyAffectedLocaleAndExport() {
+        // Arrange
+        localeBundleCache.getExport(() -> List.of("en", "fr"));
+
+        // Act
+        localeBundleCache.put("en", "farewell", "Goodbye");
+
+        // Assert
+        assertNull(bundles.get("en"));
+        assertNotNull(bundles.get("fr"));
+        assertNull(exports.get(0L));
+        assertEquals(1L, bundleVersions.current("en"));
+        assertEquals(0L, bundleVersions.current("fr"));
+    }
+
+    @Test
+    void put_WithPatchInPlace_ReplacesBundleWithPatchedCopy() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "patchInPlace", true);
+        LocaleBundle original = (LocaleBundle) bundles.get("en").get();
+
+        // Act
+        localeBundleCache.put("en", "farewell", "Goodbye");
+
+        // Assert
+        LocaleBundle patched = localeBundleCache.getBundle("en");
+        assertEquals(1L, patched.getVersion());
+        assertNotNull(patched.getLastModified());
+        assertNotEquals(original.getETag(), patched.getETag());
+        assertEquals("Goodbye", patched.getTranslations().get("farewell"));
+        assertEquals("Hello", patched.getTranslations().get("greeting"));
+        assertFalse(original.getTranslations().containsKey("farewell"));
+        verifyNoInteractions(localeBundleLoader);
+    }
+
+    @Test
+    void put_WithPatchInPlace_LeavesSerializationToFirstReader() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "patchInPlace", true);
+
+        // Act
+        try (MockedConstruction<ByteArrayOutputStream> streams = mockConstruction(ByteArrayOutputStream.class)) {
+            localeBundleCache.put("en", "farewell", "Goodbye");
+
+            // Assert
+            assertTrue(streams.constructed().isEmpty());
+        }
+        assertTrue(new String(localeBundleCache.getBundle("en").getBody().getJson(), StandardCharsets.UTF_8)
+                .contains("Goodbye"));
+    }
+
+    @Test
+    void put_WhileAnotherLocaleIsBeingStored_DoesNotWaitForIt() throws Exception {
+        // Arrange
+        CountDownLatch storing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentMapCache blockingBundles = new ConcurrentMapCache("translationsByLocale") {
+            @Override
+            public void put(Object key, Object value) {
+                if ("en".equals(key)) {
+                    storing.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.put(key, value);
+            }
+        };
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(blockingBundles, new ConcurrentMapCache("allTranslationsJson")));
+        cacheManager.afterPropertiesSet();
+        LocaleBundleCache cache = new LocaleBundleCache(cacheManager, localeBundleLoader, bundleVersions,
+                snapshotStore, referenceDictionary, Runnable::run);
+        ReflectionTestUtils.setField(cache, "patchInPlace", true);
+        blockingBundles.put("fr", new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), null));
+        when(localeBundleLoader.loadBundle("en")).thenReturn(new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<LocaleBundle> load = executor.submit(() -> cache.getBundle("en"));
+            assertTrue(storing.await(5, TimeUnit.SECONDS));
+
+            // Act
+            CompletableFuture.runAsync(() -> cache.put("fr", "greeting", "Salut")).get(2, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals("Salut", cache.getBundle("fr").getTranslations().get("greeting"));
+            release.countDown();
+            assertEquals("Hello", load.get(5, TimeUnit.SECONDS).getTranslations().get("greeting"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void put_WithPatchInPlace_NeverMovesLastModifiedBackwards() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "patchInPlace", true);
+        Instant ahead = Instant.now().plusSeconds(3600);
+        bundles.put("en", new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), ahead));
+
+        // Act
+        localeBundleCache.put("en", "farewell", "Goodbye");
+
+        // Assert
+        assertEquals(ahead, localeBundleCache.getBundle("en").getLastModified());
+    }
+
+    @Test
+    void remove_WithPatchInPlace_RemovesKeyFromCachedBundle() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "patchInPlace", true);
+
+        // Act
+        localeBundleCache.remove("fr", "greeting");
+
+        // Assert
+        assertTrue(((LocaleBundle) bundles.get("fr").get()).getTranslations().isEmpty());
+    }
+
+    @Test
+    void put_WithPatchInPlaceAndStaleBundle_EvictsInsteadOfPatching() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "patchInPlace", true);
+        bundleVersions.bump("en");
+
+        // Act
+        localeBundleCache.put("en", "farewell", "Goodbye");
+
+        // Assert
+        assertNull(bundles.get("en"));
+    }
+
+    @Test
+    void put_WithPatchInPlaceAndNoCachedBundle_LeavesCacheEmpty() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "patchInPlace", true);
+
+        // Act
+        localeBundleCache.put("de", "greeting", "Hallo");
+
+        // Assert
+        assertNull(bundles.get("de"));
+        assertEquals(1L, bundleVersions.current("de"));
+    }
+
+    @Test
+    void evict_InsideTransaction_IsDeferredUntilCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        localeBundleCache.evict("en");
+
+        // Assert
+        assertNotNull(bundles.get("en"));
+        assertEquals(0L, bundleVersions.current("en"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.get(0).afterCommit();
+        assertNull(bundles.get("en"));
+        assertEquals(1L, bundleVersions.current("en"));
+    }
+
+    @Test
+    void evict_WithMissingCache_ThrowsIllegalStateException() {
+        // Arrange
+        LocaleBundleCache misconfigured = new LocaleBundleCache(
+                new ConcurrentMapCacheManager("other"), localeBundleLoader, bundleVersions,
+                snapshotStore, referenceDictionary, Runnable::run);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> misconfigured.evict("en"));
+    }
+
+    @Test
+    void onApplicationReady_WithSnapshotStore_PreloadsEveryLocale() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "snapshotStoreEnabled", true);
+        when(referenceDictionary.getLocales()).thenReturn(List.of(
+                new LocaleInfo(1L, "en", "English"), new LocaleInfo(2L, "fr", "French")));
+        when(localeBundleLoader.loadBundle("en")).thenReturn(new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null));
+        when(localeBundleLoader.loadBundle("fr")).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // Act
+        localeBundleCache.onApplicationReady();
+
+        // Assert
+        assertEquals("Hello", snapshotStore.get("en").getTranslations().get("greeting"));
+        assertNull(snapshotStore.get("fr"));
+    }
+
+    @Test
+    void onApplicationReady_WithoutSnapshotStore_LoadsNothing() {
+        // Act
+        localeBundleCache.onApplicationReady();
+
+        // Assert
+        verifyNoInteractions(referenceDictionary, localeBundleLoader);
+    }
+
+    @Test
+    void put_WithSnapshotStore_PatchesOnlyThatLocaleWithoutLoading() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "snapshotStoreEnabled", true);
+        LocaleBundle fr = new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), null);
+        snapshotStore.put(new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null));
+        snapshotStore.put(fr);
+
+        // Act
+        localeBundleCache.put("en", "farewell", "Goodbye");
+        localeBundleCache.remove("en", "greeting");
+        LocaleBundle bundle = localeBundleCache.getBundle("en");
+
+        // Assert
+        verifyNoInteractions(localeBundleLoader);
+        assertEquals(2L, bundle.getVersion());
+        assertEquals(Map.of("farewell", "Goodbye"), bundle.getTranslations());
+        assertSame(bundle, snapshotStore.get("en"));
+        assertSame(fr, snapshotStore.get("fr"));
+        assertEquals("Hello", bundles.get("en", LocaleBundle.class).getTranslations().get("greeting"));
+    }
+
+    @Test
+    void evict_WithSnapshotStore_KeepsBundleUntilReadReloadsIt() {
+        // Arrange
+        ReflectionTestUtils.setField(localeBundleCache, "snapshotStoreEnabled", true);
+        LocaleBundle previous = new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null);
+        LocaleBundle fresh = new LocaleBundle("en", 1L, Map.of("greeting", "Hi"), null);
+        snapshotStore.put(previous);
+
+        // Act
+        localeBundleCache.evict("en");
+
+        // Assert
+        assertSame(previous, localeBundleCache.getCachedBundle("en"));
+        when(localeBundleLoader.loadBundle("en")).thenReturn(fresh);
+        assertSame(fresh, localeBundleCache.getBundle("en"));
+        assertSame(fresh, snapshotStore.get("en"));
+        verify(localeBundleLoader, times(1)).loadBundle("en");
+    }
+}
@@ -0,0 +1,121 @@
+package com.translationservice.cache;
+
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.exception.ResourceNotFoundException;
+import com.translationservice.model.Locale;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TranslationRepository;
+import com.translationservice.repository.TranslationTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocaleBundleLoaderTest {
+
+    @Mock
+    private LocaleRepository localeRepository;
+
+    @Mock
+    private ReferenceDictionary referenceDictionary;
+
+    @Spy
+    private BundleKeyDictionary keyDictionary = new BundleKeyDictionary();
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private BundleVersions bundleVersions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private LocaleBundleLoader localeBundleLoader;
+
+    private Locale testLocale;
+
+    @BeforeEach
+    void setUp() {
+        testLocale = Locale.builder().id(1L).code("en").name("English").build();
+    }
+
+    @Test
+    void loadBundle_WithExistingLocale_ReturnsVersionedKeyToContentMap() {
+        // Arrange
+        LocalDateTime lastModified = LocalDateTime.of(2024, 3, 1, 12, 30);
+        when(bundleVersions.current("en")).thenReturn(7L);
+        when(translationRepository.findLastModifiedByLocale(testLocale)).thenReturn(Optional.of(lastModified));
+        when(referenceDictionary.findLocale("en")).thenReturn(Optional.of(LocaleInfo.of(testLocale)));
+        when(localeRepository.getReferenceById(1L)).thenReturn(testLocale);
+        when(translationRepository.streamEntriesByLocale(testLocale)).thenReturn(Stream.of(
+                new TranslationEntryDTO("greeting", "Hello"),
+                new TranslationEntryDTO("farewell", "Goodbye")));
+
+        // Act
+        LocaleBundle bundle = localeBundleLoader.loadBundle("en");
+
+        // Assert
+        assertEquals("en", bundle.getLocaleCode());
+        assertEquals(lastModified.atZone(ZoneId.systemDefault()).toInstant(), bundle.getLastModified());
+        assertEquals(7L, bundle.getVersion());
+        assertEquals(Map.of("greeting", "Hello", "farewell", "Goodbye"), bundle.getTranslations());
+        verify(referenceDictionary).findLocale("en");
+        verify(translationRepository).streamEntriesByLocale(testLocale);
+        verify(translationRepository, never()).findByLocale(any(Locale.class));
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void loadBundle_WithLaterDelete_UsesTombstoneAsLastModified() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 30);
+        LocalDateTime deletedAt = LocalDateTime.of(2024, 3, 2, 8, 0);
+        when(referenceDictionary.findLocale("en")).thenReturn(Optional.of(LocaleInfo.of(testLocale)));
+        when(localeRepository.getReferenceById(1L)).thenReturn(testLocale);
+        when(translationRepository.findLastModifiedByLocale(testLocale)).thenReturn(Optional.of(updatedAt));
+        when(tombstoneRepository.findLastDeletedByLocale(testLocale)).thenReturn(Optional.of(deletedAt));
+
+        // Act
+        LocaleBundle bundle = localeBundleLoader.loadBundle("en");
+
+        // Assert
+        assertEquals(deletedAt.atZone(ZoneId.systemDefault()).toInstant(), bundle.getLastModified());
+    }
+
+    @Test
+    void loadBundle_WithNonExistingLocale_ThrowsResourceNotFoundException() {
+        // Arrange
+        when(referenceDictionary.findLocale(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> localeBundleLoader.loadBundle("non-existent"));
+
+        assertTrue(exception.getMessage().contains("Locale not found"));
+        verify(translationRepository, never()).streamEntriesByLocale(any(Locale.class));
+        verify(transactionManager).rollback(any());
+    }
+}
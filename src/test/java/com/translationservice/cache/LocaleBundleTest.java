@@ -0,0 +1,117 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class LocaleBundleTest {
+
+    @Test
+    void getETag_IsIndependentOfInsertionOrderAndVersion() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("a", "1");
+        first.put("b", "2");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("b", "2");
+        second.put("a", "1");
+
+        assertEquals(new LocaleBundle("en", 1L, first, null).getETag(),
+                new LocaleBundle("en", 9L, second, Instant.now()).getETag());
+    }
+
+    @Test
+    void getETag_ChangesWithContentAndKeyBoundaries() {
+        String base = new LocaleBundle("en", 0L, Map.of("ab", "c"), null).getETag();
+
+        assertNotEquals(base, new LocaleBundle("en", 0L, Map.of("a", "bc"), null).getETag());
+        assertNotEquals(base, new LocaleBundle("en", 0L, Map.of("ab", "d"), null).getETag());
+    }
+
+    @Test
+    void getTranslations_IsUnmodifiable() {
+        LocaleBundle bundle = new LocaleBundle("en", 0L, new HashMap<>(Map.of("a", "1")), null);
+
+        assertThrows(UnsupportedOperationException.class, () -> bundle.getTranslations().put("b", "2"));
+        assertEquals("en", bundle.getLocaleCode());
+    }
+
+    @Test
+    void constructor_LeavesSerializationToFirstRead() {
+        try (MockedConstruction<ByteArrayOutputStream> streams = mockConstruction(ByteArrayOutputStream.class)) {
+            new LocaleBundle("en", 0L, Map.of("a", "1"), null);
+
+            assertTrue(streams.constructed().isEmpty());
+        }
+    }
+
+    @Test
+    void getBuiltBodySize_DoesNotBuildTheBody() {
+        LocaleBundle bundle = new LocaleBundle("en", 0L, Map.of("a", "1"), null);
+
+        try (MockedConstruction<ByteArrayOutputStream> streams = mockConstruction(ByteArrayOutputStream.class)) {
+            assertEquals(0, bundle.getBuiltBodySize());
+            assertTrue(streams.constructed().isEmpty());
+        }
+        assertEquals(bundle.getBody().size(), bundle.getBuiltBodySize());
+    }
+
+    @Test
+    void getBody_IsBuiltOnceAndShared() {
+        LocaleBundle bundle = new LocaleBundle("en", 0L, Map.of("a", "1"), null);
+
+        assertSame(bundle.getBody(), bundle.getBody());
+        assertSame(bundle.getETag(), bundle.getETag());
+    }
+
+    @Test
+    void getBody_IsSortedJsonWithMatchingGzip() throws Exception {
+        Map<String, String> translations = new HashMap<>();
+        translations.put("b", "quote \" here");
+        translations.put("a", "1");
+
+        BundleBody body = new LocaleBundle("en", 0L, translations, null).getBody();
+
+        assertEquals("{\"a\":\"1\",\"b\":\"quote \\\" here\"}", new String(body.getJson(), StandardCharsets.UTF_8));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body.getGzip()))) {
+            assertArrayEquals(body.getJson(), gzip.readAllBytes());
+        }
+        assertEquals(body.getJson().length + body.getGzip().length, body.size());
+    }
+
+    @Test
+    void getBody_WhenSerializationFails_ThrowsUncheckedIOException() {
+        // Jackson flushes through write(byte[], int, int), which does not declare the IOException a real stream could throw
+        try (MockedConstruction<ByteArrayOutputStream> streams = mockConstruction(ByteArrayOutputStream.class,
+                (stream, context) -> doAnswer(invocation -> {
+                    throw new IOException("write failed");
+                }).when(stream).write(any(byte[].class), anyInt(), anyInt()))) {
+            assertThrows(UncheckedIOException.class,
+                    () -> new LocaleBundle("en", 0L, Map.of("a", "1"), null).getBody());
+        }
+    }
+
+    @Test
+    void getBody_WhenGzipFails_ThrowsUncheckedIOException() {
+        try (MockedConstruction<GZIPOutputStream> gzip = mockConstruction(GZIPOutputStream.class,
+                (stream, context) -> doThrow(new IOException("deflate failed")).when(stream).write(any(byte[].class)))) {
+            assertThrows(UncheckedIOException.class,
+                    () -> new LocaleBundle("en", 0L, Map.of("a", "1"), null).getBody());
+        }
+    }
+}
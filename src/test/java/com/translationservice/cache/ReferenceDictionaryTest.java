@@ -0,0 +1,155 @@
+package com.translationservice.cache;
+
+import com.translationservice.model.Locale;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TagJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDictionaryTest {
+
+    @Mock
+    private LocaleRepository localeRepository;
+
+    @Mock
+    private TagJdbcRepository tagJdbcRepository;
+
+    @InjectMocks
+    private ReferenceDictionary referenceDictionary;
+
+    private Locale en;
+    private Locale fr;
+
+    @BeforeEach
+    void setUp() {
+        en = Locale.builder().id(1L).code("en").name("English").build();
+        fr = Locale.builder().id(2L).code("fr").name("French").build();
+    }
+
+    @Test
+    void refresh_LoadsLocalesAndTagsForLookupsWithoutQueries() {
+        // Arrange
+        when(localeRepository.findAll()).thenReturn(List.of(fr, en));
+        when(tagJdbcRepository.findAllIds()).thenReturn(new HashMap<>(Map.of("mobile", 7L)));
+
+        // Act
+        referenceDictionary.refresh();
+
+        // Assert
+        assertEquals(List.of("en", "fr"), referenceDictionary.getLocales().stream().map(LocaleInfo::getCode).toList());
+        assertEquals("French", referenceDictionary.findLocale("fr").orElseThrow().getName());
+        assertEquals(7L, referenceDictionary.findTag("mobile").getId());
+        verify(localeRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    void findLocale_WithUnknownCode_LooksItUpOnceAndKeepsIt() {
+        // Arrange
+        when(localeRepository.findByCode("en")).thenReturn(Optional.of(en));
+
+        // Act
+        LocaleInfo first = referenceDictionary.findLocale("en").orElseThrow();
+        LocaleInfo second = referenceDictionary.findLocale("en").orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1L, first.getId());
+        verify(localeRepository, times(1)).findByCode("en");
+    }
+
+    @Test
+    void findLocale_WithMissingCode_ReturnsEmpty() {
+        // Arrange
+        when(localeRepository.findByCode("xx")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(referenceDictionary.findLocale("xx").isEmpty());
+    }
+
+    @Test
+    void describe_WithKnownId_DoesNotReadTheEntity() {
+        // Arrange
+        when(localeRepository.findByCode("en")).thenReturn(Optional.of(en));
+        referenceDictionary.findLocale("en");
+        Locale reference = mock(Locale.class);
+        when(reference.getId()).thenReturn(1L);
+
+        // Act
+        LocaleInfo info = referenceDictionary.describe(reference);
+
+        // Assert
+        assertEquals("en", info.getCode());
+        assertEquals("English", info.getName());
+        verify(reference, never()).getCode();
+    }
+
+    @Test
+    void getLocales_BeforeRefresh_LoadsAll() {
+        // Arrange
+        when(localeRepository.findByCode("en")).thenReturn(Optional.of(en));
+        when(localeRepository.findAll()).thenReturn(List.of(en, fr));
+        referenceDictionary.findLocale("en");
+
+        // Act
+        List<LocaleInfo> locales = referenceDictionary.getLocales();
+
+        // Assert
+        assertEquals(2, locales.size());
+        referenceDictionary.getLocales();
+        verify(localeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void putTags_KeepsEarlierEntries() {
+        // Act
+        referenceDictionary.putTags(List.of(new TagInfo(1L, "mobile")));
+        referenceDictionary.putTags(List.of(new TagInfo(2L, "web")));
+
+        // Assert
+        assertEquals(1L, referenceDictionary.findTag("mobile").getId());
+        assertEquals(2L, referenceDictionary.findTag("web").getId());
+        assertNull(referenceDictionary.findTag("admin"));
+    }
+
+    @Test
+    void findTag_WithCaseOrAccentVariant_ReturnsStoredTag() {
+        // Arrange
+        referenceDictionary.putTags(List.of(new TagInfo(1L, "mobile")));
+
+        // Act
+        TagInfo tag = referenceDictionary.findTag("Móbile");
+
+        // Assert
+        assertEquals(1L, tag.getId());
+        assertEquals("mobile", tag.getName());
+    }
+
+    @Test
+    void putTags_WithNoTags_KeepsSnapshot() {
+        // Arrange
+        referenceDictionary.putTags(List.of(new TagInfo(1L, "mobile")));
+        Object before = ReflectionTestUtils.getField(referenceDictionary, "snapshot");
+
+        // Act
+        referenceDictionary.putTags(List.of());
+
+        // Assert: the same snapshot stays published, so readers keep their maps and nothing is copied
+        assertSame(before, ReflectionTestUtils.getField(referenceDictionary, "snapshot"));
+        assertEquals(1L, referenceDictionary.findTag("mobile").getId());
+        verifyNoInteractions(localeRepository, tagJdbcRepository);
+    }
+}
@@ -0,0 +1,49 @@
+package com.translationservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationExportTest {
+
+    @Test
+    void export_KeepsLocaleOrderAndUsesLatestLastModified() {
+        Instant older = Instant.parse("2024-01-01T00:00:00Z");
+        Instant newer = Instant.parse("2024-02-01T00:00:00Z");
+
+        TranslationExport export = new TranslationExport(List.of(
+                new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), older),
+                new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), newer),
+                new LocaleBundle("de", 0L, Map.of(), null)));
+
+        assertEquals(List.of("en", "fr", "de"), List.copyOf(export.getTranslations().keySet()));
+        assertEquals(newer, export.getLastModified());
+    }
+
+    @Test
+    void getETag_ChangesWhenAnyBundleChanges() {
+        LocaleBundle en = new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null);
+
+        String before = new TranslationExport(List.of(en, new LocaleBundle("fr", 0L, Map.of("greeting", "Bonjour"), null))).getETag();
+        String after = new TranslationExport(List.of(en, new LocaleBundle("fr", 1L, Map.of("greeting", "Salut"), null))).getETag();
+
+        assertNotEquals(before, after);
+        assertNull(new TranslationExport(List.of()).getLastModified());
+    }
+
+    @Test
+    void getBody_StitchesLocaleBodiesIntoOneDocument() {
+        TranslationExport export = new TranslationExport(List.of(
+                new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null),
+                new LocaleBundle("fr", 0L, Map.of(), null)));
+
+        assertEquals("{\"en\":{\"greeting\":\"Hello\"},\"fr\":{}}",
+                new String(export.getBody().getJson(), StandardCharsets.UTF_8));
+        assertEquals("{}", new String(new TranslationExport(List.of()).getBody().getJson(), StandardCharsets.UTF_8));
+    }
+}
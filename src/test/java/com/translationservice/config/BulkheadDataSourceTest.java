@@ -0,0 +1,154 @@
+package com.translationservice.config;
+
+import com.translationservice.exception.DatabaseBusyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        bulkhead = new BulkheadDataSource(dataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_HoldsPermitUntilClosed() throws Exception {
+        // Act
+        Connection held = bulkhead.getConnection();
+        int availableWhileHeld = bulkhead.getAvailablePermits();
+        held.close();
+        held.close();
+
+        // Assert
+        assertEquals(0, availableWhileHeld);
+        assertEquals(1, bulkhead.getAvailablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_WithNoPermitLeft_TimesOut() throws Exception {
+        // Arrange
+        Connection held = bulkhead.getConnection();
+
+        // Act & Assert
+        CompletableFuture<Connection> other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Exception exception = assertThrows(Exception.class, () -> other.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DatabaseBusyException.class, exception.getCause());
+        held.close();
+    }
+
+    @Test
+    void getConnection_NestedOnSameThread_DoesNotTakeAnotherPermit() throws Exception {
+        // Act
+        Connection outer = bulkhead.getConnection();
+        Connection inner = bulkhead.getConnection();
+        inner.close();
+        int availableAfterInner = bulkhead.getAvailablePermits();
+        outer.close();
+
+        // Assert
+        assertEquals(0, availableAfterInner);
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_WhenPoolFails_ReleasesPermit() throws Exception {
+        // Arrange
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, () -> bulkhead.getConnection());
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_DelegatesOtherCallsToConnection() throws Exception {
+        // Arrange
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // Act & Assert
+        try (Connection wrapped = bulkhead.getConnection()) {
+            assertTrue(wrapped.getAutoCommit());
+        }
+    }
+
+    @Test
+    void constructor_WithoutPermits_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BulkheadDataSource(dataSource, 0, Duration.ofMillis(50)));
+    }
+
+    @Test
+    void getConnectionWithCredentials_HoldsPermitUntilClosed() throws Exception {
+        // Arrange
+        when(dataSource.getConnection("user", "secret")).thenReturn(connection);
+
+        // Act
+        Connection held = bulkhead.getConnection("user", "secret");
+        int availableWhileHeld = bulkhead.getAvailablePermits();
+        held.close();
+
+        // Assert
+        assertEquals(0, availableWhileHeld);
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_InterruptedWhileWaiting_ThrowsAndKeepsInterruptFlag() throws Exception {
+        // Arrange
+        Connection held = bulkhead.getConnection();
+
+        // Act
+        CompletableFuture<Boolean> interrupted = CompletableFuture.supplyAsync(() -> {
+            Thread.currentThread().interrupt();
+            assertThrows(DatabaseBusyException.class, () -> bulkhead.getConnection());
+            return Thread.interrupted();
+        });
+
+        // Assert
+        assertTrue(interrupted.get(5, TimeUnit.SECONDS));
+        held.close();
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_ConnectionCallFails_ThrowsOriginalException() throws Exception {
+        // Arrange
+        SQLException failure = new SQLException("syntax error");
+        when(connection.prepareStatement("SELEC 1")).thenThrow(failure);
+
+        // Act & Assert
+        try (Connection wrapped = bulkhead.getConnection()) {
+            assertSame(failure, assertThrows(SQLException.class, () -> wrapped.prepareStatement("SELEC 1")));
+        }
+    }
+}
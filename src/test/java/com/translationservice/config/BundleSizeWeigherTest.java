@@ -0,0 +1,76 @@
+package com.translationservice.config;
+
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.TranslationResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockConstruction;
+
+class BundleSizeWeigherTest {
+
+    private final BundleSizeWeigher weigher = new BundleSizeWeigher();
+
+    @Test
+    void weigh_MapBundle_GrowsWithContentSize() {
+        int small = weigher.weigh("en", Map.of("k", "v"));
+        int large = weigher.weigh("en", Map.of("k", "v".repeat(1000)));
+
+        assertTrue(large - small >= 999);
+    }
+
+    @Test
+    void weigh_NestedExportMap_SumsLocaleBundles() {
+        Map<String, String> bundle = Map.of("greeting", "Hello");
+
+        int oneLocale = weigher.weigh("export", Map.of("en", bundle));
+        int twoLocales = weigher.weigh("export", Map.of("en", bundle, "fr", bundle));
+
+        assertTrue(twoLocales > oneLocale);
+    }
+
+    @Test
+    void weigh_LocaleBundle_EstimatesBodyWithoutBuildingIt() {
+        Map<String, String> translations = Map.of("greeting", "Hello");
+        long estimate = BundleSizeWeigher.estimateSize(translations);
+
+        try (MockedConstruction<ByteArrayOutputStream> streams = mockConstruction(ByteArrayOutputStream.class)) {
+            LocaleBundle bundle = new LocaleBundle("en", 3L, translations, null);
+
+            assertEquals(BundleSizeWeigher.estimateSize("en") + estimate * 2 + estimate / 4, weigher.weigh("en", bundle));
+            assertTrue(streams.constructed().isEmpty());
+        }
+    }
+
+    @Test
+    void weigh_TranslationExport_CountsTranslationsAndPrecompressedBody() {
+        TranslationExport export = new TranslationExport(List.of(new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null)));
+
+        assertEquals(weigher.weigh("export", export.getTranslations()) + export.getBody().size(),
+                weigher.weigh("export", export));
+    }
+
+    @Test
+    void weigh_ByteArrayAndUnknownValues() {
+        assertEquals(4 + 100, weigher.weigh(null, new byte[100]));
+        assertEquals(64 + 64, weigher.weigh(new Object(), new Object()));
+    }
+
+    @Test
+    void weigh_TranslationResponseList_CountsContentAndTags() {
+        TranslationResponseDTO dto = TranslationResponseDTO.builder()
+                .key("k")
+                .content("content")
+                .localeName("English")
+                .tags(List.of("web"))
+                .build();
+
+        assertTrue(weigher.weigh("page", List.of(dto)) > weigher.weigh("page", List.of()));
+    }
+}
@@ -1,8 +1,15 @@
 package com.translationservice.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,10 +21,10 @@ class CacheConfigTest {
         CacheConfig cacheConfig = new CacheConfig();
 
         // Get cache manager
-        CacheManager cacheManager = cacheConfig.cacheManager();
+        CacheManager cacheManager = cacheConfig.cacheManager(new MockEnvironment());
 
         // Verify cache manager type
-        assertTrue(cacheManager instanceof ConcurrentMapCacheManager);
+        assertTrue(cacheManager instanceof CaffeineCacheManager);
 
         // Verify cache names
         String[] expectedCacheNames = {"translations", "translationsByLocale", "allTranslationsJson"};
@@ -28,6 +35,62 @@ class CacheConfigTest {
         }
     }
 
+    @Test
+    void testUnknownCacheNamesAreNotCreatedDynamically() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(new MockEnvironment());
+
+        assertNull(cacheManager.getCache("unbounded"));
+    }
+
+    @Test
+    void testRefreshAfterWriteWithoutLoaderFailsFast() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.specs.translations", "maximumSize=10,refreshAfterWrite=1m");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new CacheConfig().cacheManager(environment));
+
+        assertTrue(exception.getMessage().contains("translations"));
+    }
+
+    @Test
+    void testBuildCacheWithMaximumWeightUsesWeigher() {
+        Cache<Object, Object> cache = CacheConfig.buildCache("translationsByLocale", "maximumWeight=1024");
+
+        cache.put("en", Collections.singletonMap("greeting", "Hello"));
+
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void testBundleRevalidationExecutorRunsOnItsOwnPlatformThreads() throws Exception {
+        ExecutorService executor = new CacheConfig().bundleRevalidationExecutor(new MockEnvironment()
+                .withProperty("app.cache.bundle.revalidation-threads", "1"));
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+            assertTrue(thread.getName().startsWith("bundle-revalidation-"));
+            assertFalse(thread.isVirtual());
+            assertEquals(1, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBundleRevalidationExecutorUsesVirtualThreadsWithVirtualRequests() throws Exception {
+        ExecutorService executor = new CacheConfig().bundleRevalidationExecutor(new MockEnvironment()
+                .withProperty("app.threads.virtual.enabled", "true"));
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+            assertTrue(thread.isVirtual());
+            assertEquals(2, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testCacheConfigAnnotations() {
         // Verify @Configuration annotation
@@ -36,4 +99,4 @@ class CacheConfigTest {
         // Verify @EnableCaching annotation
         assertNotNull(CacheConfig.class.getAnnotation(org.springframework.cache.annotation.EnableCaching.class));
     }
-}
\ No newline at end of file
+}
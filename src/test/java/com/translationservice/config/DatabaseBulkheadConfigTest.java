@@ -0,0 +1,83 @@
+package com.translationservice.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabaseBulkheadConfigTest {
+
+    @Test
+    void postProcessor_WrapsDataSourceWithConfiguredPermits() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment().withProperty("app.db.bulkhead.permits", "3");
+        DataSource dataSource = mock(DataSource.class);
+
+        // Act
+        Object wrapped = DatabaseBulkheadConfig.databaseBulkheadPostProcessor(environment)
+                .postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Assert
+        assertInstanceOf(BulkheadDataSource.class, wrapped);
+        assertEquals(3, ((BulkheadDataSource) wrapped).getMaxPermits());
+    }
+
+    @Test
+    void postProcessor_WithoutPermits_DefaultsToPoolSize() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "6");
+
+        // Act
+        Object wrapped = DatabaseBulkheadConfig.databaseBulkheadPostProcessor(environment)
+                .postProcessAfterInitialization(mock(DataSource.class), "dataSource");
+
+        // Assert
+        assertEquals(6, ((BulkheadDataSource) wrapped).getMaxPermits());
+    }
+
+    @Test
+    void postProcessor_LeavesOtherBeansAndWrappedDataSourcesAlone() {
+        // Arrange
+        BeanPostProcessor postProcessor = DatabaseBulkheadConfig.databaseBulkheadPostProcessor(new MockEnvironment());
+        Object other = new Object();
+        BulkheadDataSource bulkhead = new BulkheadDataSource(mock(DataSource.class), 2, Duration.ofSeconds(1));
+
+        // Act & Assert
+        assertSame(other, postProcessor.postProcessAfterInitialization(other, "other"));
+        assertSame(bulkhead, postProcessor.postProcessAfterInitialization(bulkhead, "dataSource"));
+    }
+
+    @Test
+    void databaseBulkheadMetrics_RegistersPermitGauges() {
+        // Arrange
+        BulkheadDataSource bulkhead = new BulkheadDataSource(mock(DataSource.class), 4, Duration.ofSeconds(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        new DatabaseBulkheadConfig().databaseBulkheadMetrics(bulkhead).bindTo(registry);
+
+        // Assert
+        assertEquals(4.0, registry.get("db.bulkhead.permits.max").gauge().value());
+        assertEquals(4.0, registry.get("db.bulkhead.permits.available").gauge().value());
+        assertEquals(0.0, registry.get("db.bulkhead.queued").gauge().value());
+    }
+
+    @Test
+    void databaseBulkheadMetrics_WithoutBulkhead_RegistersNothing() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        new DatabaseBulkheadConfig().databaseBulkheadMetrics(mock(DataSource.class)).bindTo(registry);
+
+        // Assert
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
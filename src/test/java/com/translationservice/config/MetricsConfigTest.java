@@ -0,0 +1,48 @@
+package com.translationservice.config;
+
+import com.translationservice.metrics.StatementCountingInspector;
+import com.translationservice.metrics.StatementMetricsFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsConfigTest {
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+
+    @Test
+    void timedAspect_IsCreated() {
+        assertNotNull(metricsConfig.timedAspect(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void statementInspectorCustomizer_RegistersInspectorWithHibernate() {
+        // Arrange
+        StatementCountingInspector inspector = metricsConfig.statementCountingInspector();
+        Map<String, Object> properties = new HashMap<>();
+
+        // Act
+        metricsConfig.statementInspectorCustomizer(inspector).customize(properties);
+
+        // Assert
+        assertSame(inspector, properties.get(AvailableSettings.STATEMENT_INSPECTOR));
+    }
+
+    @Test
+    void statementMetricsFilter_CoversApiOnly() {
+        // Act
+        FilterRegistrationBean<StatementMetricsFilter> registration = metricsConfig.statementMetricsFilter(
+                new StatementCountingInspector(), new SimpleMeterRegistry());
+
+        // Assert
+        assertNotNull(registration.getFilter());
+        assertEquals(List.of("/api/*"), List.copyOf(registration.getUrlPatterns()));
+    }
+}
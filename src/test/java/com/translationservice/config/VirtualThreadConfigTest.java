@@ -0,0 +1,56 @@
+package com.translationservice.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadConfigTest {
+
+    private final VirtualThreadConfig config = new VirtualThreadConfig();
+    private final ExecutorService executor = config.virtualThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void virtualThreadExecutor_RunsEachTaskOnVirtualThread() throws Exception {
+        // Act
+        boolean virtual = executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(virtual);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void virtualThreadProtocolHandlerCustomizer_HandsExecutorToTomcat() {
+        // Arrange
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        // Act
+        ((TomcatProtocolHandlerCustomizer<ProtocolHandler>) config.virtualThreadProtocolHandlerCustomizer(executor))
+                .customize(protocolHandler);
+
+        // Assert
+        verify(protocolHandler).setExecutor(executor);
+    }
+
+    @Test
+    void applicationTaskExecutor_RunsAsyncWorkOnVirtualThreads() throws Exception {
+        // Act
+        boolean virtual = config.applicationTaskExecutor(executor)
+                .submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(virtual);
+    }
+}
@@ -1,11 +1,18 @@
 package com.translationservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.BulkImportResultDTO;
+import com.translationservice.dto.BulkImportRowResultDTO;
+import com.translationservice.dto.CursorPageDTO;
 import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationDeltaDTO;
 import com.translationservice.dto.TranslationRequestDTO;
 import com.translationservice.dto.TranslationResponseDTO;
 import com.translationservice.exception.GlobalExceptionHandler;
 import com.translationservice.exception.ResourceNotFoundException;
+import com.translationservice.service.BulkImportService;
 import com.translationservice.service.TranslationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,13 +50,20 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -61,6 +75,9 @@ class TranslationControllerTest {
     @Mock
     private TranslationService translationService;
 
+    @Mock
+    private BulkImportService bulkImportService;
+
     @InjectMocks
     private TranslationController translationController;
 
@@ -154,32 +171,158 @@ class TranslationControllerTest {
     void testGetTranslationsByLocale() {
         Map<String, String> translations = new HashMap<>();
         translations.put("test.key", "Test Content");
+        Instant lastModified = Instant.parse("2024-03-01T12:00:00Z");
+        LocaleBundle bundle = new LocaleBundle("en", 0L, translations, lastModified);
 
-        when(translationService.getTranslationsByLocale("en"))
-                .thenReturn(translations);
+        when(translationService.getLocaleBundle("en"))
+                .thenReturn(bundle);
 
-        ResponseEntity<Map<String, String>> response = translationController.getTranslationsByLocale("en");
+        ResponseEntity<byte[]> response = translationController.getTranslationsByLocale("en", null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(translations, response.getBody());
-        verify(translationService).getTranslationsByLocale("en");
+        assertEquals("{\"test.key\":\"Test Content\"}", new String(response.getBody(), StandardCharsets.UTF_8));
+        assertEquals("\"" + bundle.getETag() + "\"", response.getHeaders().getETag());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+        assertEquals(lastModified.toEpochMilli(), response.getHeaders().getLastModified());
+        verify(translationService).getLocaleBundle("en");
     }
 
     @Test
     void testGetAllTranslationsJson() {
-        Map<String, Map<String, String>> allTranslations = new HashMap<>();
         Map<String, String> enTranslations = new HashMap<>();
         enTranslations.put("test.key", "Test Content");
-        allTranslations.put("en", enTranslations);
+        TranslationExport export = new TranslationExport(List.of(new LocaleBundle("en", 0L, enTranslations, null)));
+
+        when(translationService.getTranslationExport())
+                .thenReturn(export);
+
+        ResponseEntity<byte[]> response = translationController.getAllTranslationsJson(null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("{\"en\":{\"test.key\":\"Test Content\"}}", new String(response.getBody(), StandardCharsets.UTF_8));
+        assertEquals("\"" + export.getETag() + "\"", response.getHeaders().getETag());
+        assertEquals(-1, response.getHeaders().getLastModified());
+        verify(translationService).getTranslationExport();
+    }
+
+    @Test
+    void testGetTranslationsByLocaleServesPrecompressedGzip() throws Exception {
+        LocaleBundle bundle = new LocaleBundle("en", 0L, Map.of("test.key", "Test Content"), null);
+        when(translationService.getLocaleBundle("en")).thenReturn(bundle);
+
+        ResponseEntity<byte[]> response = translationController.getTranslationsByLocale("en", "br, gzip;q=0.8");
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"" + bundle.getETag() + "-gzip\"", response.getHeaders().getETag());
+        assertSame(bundle.getBody().getGzip(), response.getBody());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertArrayEquals(bundle.getBody().getJson(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(TranslationController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(TranslationController.acceptsGzip("GZIP;q=0.5"));
+        assertTrue(TranslationController.acceptsGzip("*"));
+        assertFalse(TranslationController.acceptsGzip(null));
+        assertFalse(TranslationController.acceptsGzip("identity"));
+        assertFalse(TranslationController.acceptsGzip("gzip;q=0"));
+        assertFalse(TranslationController.acceptsGzip("gzip;q=0, *"));
+        assertFalse(TranslationController.acceptsGzip("gzip;q=high"));
+    }
+
+    @Test
+    void testGetTranslationsByLocaleWithMatchingETagReturnsNotModified() throws Exception {
+        LocaleBundle bundle = new LocaleBundle("en", 0L, Map.of("test.key", "Test Content"), Instant.parse("2024-03-01T12:00:00Z"));
+        when(translationService.getLocaleBundle("en")).thenReturn(bundle);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(translationController).build();
 
-        when(translationService.getAllTranslationsJson())
-                .thenReturn(allTranslations);
+        mockMvc.perform(get("/api/translations/locale/en").header("If-None-Match", "\"" + bundle.getETag() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/translations/locale/en").header("If-Modified-Since", "Fri, 01 Mar 2024 12:00:00 GMT"))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/translations/locale/en").header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['test.key']").value("Test Content"));
+    }
+
+    @Test
+    void testGetTranslationDelta() throws Exception {
+        Instant since = Instant.parse("2024-03-01T12:00:00Z");
+        TranslationDeltaDTO delta = new TranslationDeltaDTO("en", Map.of("test.key", "Test Content"),
+                List.of("old.key"), Instant.parse("2024-03-02T00:00:00Z"), false);
+        when(translationService.getTranslationDelta("en", since)).thenReturn(delta);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(translationController).build();
+
+        mockMvc.perform(get("/api/translations/locale/en/delta").param("since", "2024-03-01T12:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed['test.key']").value("Test Content"))
+                .andExpect(jsonPath("$.deleted[0]").value("old.key"))
+                .andExpect(jsonPath("$.full").value(false));
+
+        verify(translationService).getTranslationDelta("en", since);
+    }
+
+    @Test
+    void testBulkImportTranslations() throws Exception {
+        BulkImportResultDTO result = new BulkImportResultDTO(List.of(
+                new BulkImportRowResultDTO(0, "a", "en", BulkImportRowResultDTO.Status.CREATED, 10L, null)));
+        when(bulkImportService.importTranslations(any(), eq(true))).thenReturn(result);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(translationController).build();
+
+        mockMvc.perform(post("/api/translations/bulk").param("upsert", "true")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"key\":\"a\",\"content\":\"A\",\"localeCode\":\"en\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(10));
+
+        verify(bulkImportService).importTranslations(any(), eq(true));
+    }
+
+    @Test
+    void testScrollTranslations() throws Exception {
+        CursorPageDTO<TranslationResponseDTO> page = new CursorPageDTO<>(List.of(responseDTO), 50, "next", null);
+        when(translationService.scrollTranslations("abc", 50, false)).thenReturn(page);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(translationController).build();
+
+        mockMvc.perform(get("/api/translations/scroll").param("cursor", "abc").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[0].key").value(responseDTO.getKey()));
+    }
+
+    @Test
+    void testScrollSearchTranslations() throws Exception {
+        CursorPageDTO<TranslationResponseDTO> page = new CursorPageDTO<>(List.of(), 20, null, 0L);
+        when(translationService.scrollSearchTranslations(any(SearchRequestDTO.class), isNull(), eq(true))).thenReturn(page);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(translationController).build();
+
+        mockMvc.perform(post("/api/translations/search/scroll").param("count", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"key\":\"test\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testStreamAllTranslationsJson() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-        ResponseEntity<Map<String, Map<String, String>>> response = translationController.getAllTranslationsJson();
+        ResponseEntity<StreamingResponseBody> response = translationController.streamAllTranslationsJson();
+        response.getBody().writeTo(outputStream);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(allTranslations, response.getBody());
-        verify(translationService).getAllTranslationsJson();
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        verify(translationService).exportTranslations(outputStream);
     }
 
     @Test
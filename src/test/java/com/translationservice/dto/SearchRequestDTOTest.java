@@ -47,6 +47,7 @@ class SearchRequestDTOTest {
                 .tags(tags)
                 .page(0)
                 .size(20)
+                .facets(true)
                 .build();
 
         // Verify all fields
@@ -56,6 +57,7 @@ class SearchRequestDTOTest {
         assertEquals(tags, dto.getTags());
         assertEquals(0, dto.getPage());
         assertEquals(20, dto.getSize());
+        assertTrue(dto.getFacets());
     }
 
     @Test
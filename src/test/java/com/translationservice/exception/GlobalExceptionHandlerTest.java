@@ -43,6 +43,34 @@ public class GlobalExceptionHandlerTest {
         assertNotNull(body.get("timestamp"));
     }
 
+    @Test
+    public void testDatabaseBusyException() {
+
+        DatabaseBusyException ex = new DatabaseBusyException("Timed out waiting for a database connection");
+
+
+        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleDatabaseBusyException(ex);
+
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals(503, response.getBody().get("status"));
+    }
+
+    @Test
+    public void testGeneralExceptionCausedByDatabaseBusy() {
+
+        Exception ex = new IllegalStateException("Could not open JPA EntityManager for transaction",
+                new DatabaseBusyException("Timed out waiting for a database connection"));
+
+
+        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleGeneralException(ex);
+
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("Timed out waiting for a database connection", response.getBody().get("message"));
+    }
+
     @Test
     public void testResourceNotFoundExceptionConstructor() {
 
@@ -0,0 +1,59 @@
+package com.translationservice.metrics;
+
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocaleBundleMetricsTest {
+
+    @Mock
+    private LocaleBundleCache localeBundleCache;
+
+    @Mock
+    private ReferenceDictionary referenceDictionary;
+
+    private SimpleMeterRegistry registry;
+    private LocaleBundleMetrics localeBundleMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        localeBundleMetrics = new LocaleBundleMetrics(localeBundleCache, referenceDictionary, registry);
+    }
+
+    @Test
+    void onApplicationReady_RegistersGaugesPerLocaleReadingTheCachedBundle() {
+        // Arrange
+        when(referenceDictionary.getLocales()).thenReturn(List.of(
+                new LocaleInfo(1L, "en", "English"), new LocaleInfo(2L, "fr", "French")));
+        LocaleBundle bundle = new LocaleBundle("en", 0L, Map.of("greeting", "Hello", "farewell", "Goodbye"), null);
+        when(localeBundleCache.getCachedBundle("en")).thenReturn(bundle);
+
+        // Act
+        localeBundleMetrics.onApplicationReady();
+
+        // Assert
+        assertEquals(2.0, registry.get(LocaleBundleMetrics.ENTRIES_METRIC).tag("locale", "en").gauge().value());
+        // The body is built by the first request, not by a scrape
+        assertEquals(0.0, registry.get(LocaleBundleMetrics.SIZE_METRIC).tag("locale", "en").gauge().value());
+        assertEquals(bundle.getBody().size(), registry.get(LocaleBundleMetrics.SIZE_METRIC).tag("locale", "en").gauge().value());
+        // Not cached yet
+        assertEquals(0.0, registry.get(LocaleBundleMetrics.ENTRIES_METRIC).tag("locale", "fr").gauge().value());
+        assertEquals(0.0, registry.get(LocaleBundleMetrics.SIZE_METRIC).tag("locale", "fr").gauge().value());
+        verify(localeBundleCache, never()).getBundle(anyString());
+    }
+}
@@ -0,0 +1,63 @@
+package com.translationservice.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingInspectorTest {
+
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+
+    @Test
+    void inspect_WithinWindow_CountsAndReturnsSqlUnchanged() {
+        // Arrange
+        inspector.start();
+
+        // Act
+        String sql = inspector.inspect("select 1");
+        inspector.inspect("select 2");
+
+        // Assert
+        assertEquals("select 1", sql);
+        assertEquals(2, inspector.stop());
+    }
+
+    @Test
+    void inspect_OutsideWindow_IsNotCounted() {
+        // Act
+        inspector.inspect("select 1");
+
+        // Assert
+        assertEquals(0, inspector.stop());
+    }
+
+    @Test
+    void stop_EndsWindowAndRestartsFromZero() {
+        // Arrange
+        inspector.start();
+        inspector.inspect("select 1");
+        inspector.stop();
+
+        // Act
+        inspector.inspect("select 2");
+        inspector.start();
+        inspector.inspect("select 3");
+
+        // Assert
+        assertEquals(1, inspector.stop());
+    }
+
+    @Test
+    void inspect_OnOtherThread_IsNotCounted() {
+        // Arrange
+        inspector.start();
+
+        // Act
+        CompletableFuture.runAsync(() -> inspector.inspect("select 1")).join();
+
+        // Assert
+        assertEquals(0, inspector.stop());
+    }
+}
@@ -0,0 +1,72 @@
+package com.translationservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementMetricsFilterTest {
+
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementMetricsFilter filter = new StatementMetricsFilter(inspector, registry);
+
+    @Test
+    void doFilter_RecordsStatementsByMethodAndUriTemplate() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/translations/tag/web");
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/translations/tag/{tagName}");
+            inspector.inspect("select t from translations");
+            inspector.inspect("select l from locales");
+        };
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        DistributionSummary summary = registry.get(StatementMetricsFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", "/api/translations/tag/{tagName}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void doFilter_WithoutMatchedHandler_RecordsUnknownUri() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/missing");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // Assert
+        DistributionSummary summary = registry.get(StatementMetricsFilter.METRIC_NAME)
+                .tags("method", "POST", "uri", "UNKNOWN")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(0.0, summary.totalAmount());
+    }
+
+    @Test
+    void doFilter_WhenChainFails_StillRecordsAndEndsWindow() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/translations/1");
+        FilterChain chain = (req, res) -> {
+            inspector.inspect("delete from translations");
+            throw new ServletException("boom");
+        };
+
+        // Act & Assert
+        assertThrows(ServletException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+        assertEquals(1.0, registry.get(StatementMetricsFilter.METRIC_NAME).tags("method", "DELETE").summary().totalAmount());
+        inspector.inspect("select 1");
+        assertEquals(0, inspector.stop());
+    }
+}
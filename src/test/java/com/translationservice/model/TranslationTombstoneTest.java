@@ -0,0 +1,64 @@
+package com.translationservice.model;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationTombstoneTest {
+
+    private static final LocalDateTime FIXED_DATE_TIME = LocalDateTime.of(2023, 1, 1, 12, 0, 0);
+
+    @Test
+    void testConstructorWithKeyAndLocale() {
+        // Arrange
+        Locale locale = Locale.builder().id(1L).code("en").name("English").build();
+
+        // Act
+        TranslationTombstone tombstone = new TranslationTombstone("greeting", locale);
+
+        // Assert
+        assertNull(tombstone.getId());
+        assertEquals("greeting", tombstone.getKey());
+        assertSame(locale, tombstone.getLocale());
+        assertNull(tombstone.getDeletedAt());
+    }
+
+    @Test
+    void testSettersAndGetters() {
+        // Arrange
+        TranslationTombstone tombstone = new TranslationTombstone();
+        Locale locale = Locale.builder().id(2L).code("fr").name("French").build();
+
+        // Act
+        tombstone.setId(7L);
+        tombstone.setKey("farewell");
+        tombstone.setLocale(locale);
+        tombstone.setDeletedAt(FIXED_DATE_TIME);
+
+        // Assert
+        assertEquals(7L, tombstone.getId());
+        assertEquals("farewell", tombstone.getKey());
+        assertSame(locale, tombstone.getLocale());
+        assertEquals(FIXED_DATE_TIME, tombstone.getDeletedAt());
+    }
+
+    @Test
+    void testPrePersist() {
+        // Arrange
+        TranslationTombstone tombstone = new TranslationTombstone();
+
+        // Act - using try-with-resources to mock the static LocalDateTime.now()
+        try (MockedStatic<LocalDateTime> mockedStatic = Mockito.mockStatic(LocalDateTime.class)) {
+            mockedStatic.when(LocalDateTime::now).thenReturn(FIXED_DATE_TIME);
+
+            tombstone.onCreate();
+
+            // Assert
+            assertEquals(FIXED_DATE_TIME, tombstone.getDeletedAt());
+        }
+    }
+}
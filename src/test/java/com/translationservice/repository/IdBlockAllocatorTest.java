@@ -0,0 +1,59 @@
+package com.translationservice.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdBlockAllocatorTest {
+
+    private static final String SELECT = "SELECT next_val FROM id_generators WHERE sequence_name = ? FOR UPDATE";
+    private static final String UPDATE = "UPDATE id_generators SET next_val = ? WHERE sequence_name = ? AND next_val = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdBlockAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new IdBlockAllocator(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void allocate_ReservesRangeInItsOwnTransaction() {
+        when(jdbcTemplate.queryForObject(SELECT, Long.class, "translations")).thenReturn(51L);
+        when(jdbcTemplate.update(UPDATE, 151L, "translations", 51L)).thenReturn(1);
+
+        assertEquals(51L, allocator.allocate(IdBlockAllocator.TRANSLATIONS, 100));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void allocate_RetriesWhenRowMovedUnderneath() {
+        when(jdbcTemplate.queryForObject(SELECT, Long.class, "tags")).thenReturn(10L, 60L);
+        when(jdbcTemplate.update(UPDATE, 15L, "tags", 10L)).thenReturn(0);
+        when(jdbcTemplate.update(UPDATE, 65L, "tags", 60L)).thenReturn(1);
+
+        assertEquals(60L, allocator.allocate("tags", 5));
+    }
+
+    @Test
+    void allocate_RejectsMissingRowAndEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> allocator.allocate("tags", 0));
+        assertThrows(IllegalStateException.class, () -> allocator.allocate("unknown", 1));
+    }
+}
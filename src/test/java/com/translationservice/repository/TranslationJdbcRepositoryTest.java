@@ -0,0 +1,144 @@
+package com.translationservice.repository;
+
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.model.Locale;
+import com.translationservice.model.Tag;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the batch statements against H2, so the SQL is checked against the mapped schema rather than a mock.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import(TranslationJdbcRepository.class)
+class TranslationJdbcRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private TranslationJdbcRepository jdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Locale english;
+    private Tag web;
+    private Tag mobile;
+
+    @BeforeEach
+    void setUp() {
+        english = Locale.builder().code("en").name("English").build();
+        web = Tag.builder().name("web").build();
+        mobile = Tag.builder().name("mobile").build();
+        entityManager.persist(english);
+        entityManager.persist(web);
+        entityManager.persist(mobile);
+        entityManager.flush();
+    }
+
+    @Test
+    void batchInsert_AssignsConsecutiveIdsFromFirstId() {
+        // Act
+        jdbcRepository.batchInsert(1000L, english.getId(), List.of(
+                new TranslationEntryDTO("greeting", "Hello"),
+                new TranslationEntryDTO("farewell", "Goodbye")), NOW);
+
+        // Assert
+        Map<String, Long> ids = jdbcRepository.findIdsByLocaleAndKeys(english.getId(), List.of("greeting", "farewell", "missing"));
+        assertEquals(Map.of("greeting", 1000L, "farewell", 1001L), ids);
+        assertEquals("Hello", jdbcTemplate.queryForObject(
+                "SELECT content FROM translations WHERE id = 1000", String.class));
+    }
+
+    @Test
+    void findIdsByLocaleAndKeys_EmptyKeys_ReturnsEmptyWithoutQuerying() {
+        // Act
+        Map<String, Long> ids = jdbcRepository.findIdsByLocaleAndKeys(english.getId(), List.of());
+
+        // Assert
+        assertTrue(ids.isEmpty());
+    }
+
+    @Test
+    void batchUpdate_RewritesContentAndUpdatedAt() {
+        // Arrange
+        jdbcRepository.batchInsert(1L, english.getId(), List.of(new TranslationEntryDTO("greeting", "Hello")), NOW);
+        LocalDateTime later = NOW.plusHours(1);
+
+        // Act
+        jdbcRepository.batchUpdate(english.getId(), List.of(new TranslationEntryDTO("greeting", "Hi")), later);
+
+        // Assert
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT content, created_at, updated_at FROM translations WHERE id = 1");
+        assertEquals("Hi", row.get("CONTENT"));
+        assertEquals(NOW, ((Timestamp) row.get("CREATED_AT")).toLocalDateTime());
+        assertEquals(later, ((Timestamp) row.get("UPDATED_AT")).toLocalDateTime());
+    }
+
+    @Test
+    void batchInsertTagLinks_ThenDeleteTagLinks_RemovesOnlyGivenTranslations() {
+        // Arrange
+        jdbcRepository.batchInsert(1L, english.getId(), List.of(
+                new TranslationEntryDTO("greeting", "Hello"),
+                new TranslationEntryDTO("farewell", "Goodbye")), NOW);
+
+        // Act
+        jdbcRepository.batchInsertTagLinks(Map.of(
+                1L, Set.of(web.getId(), mobile.getId()),
+                2L, Set.of(web.getId())));
+        jdbcRepository.deleteTagLinks(List.of(1L));
+
+        // Assert
+        List<Long> remaining = jdbcTemplate.queryForList(
+                "SELECT translation_id FROM translation_tags", Long.class);
+        assertEquals(List.of(2L), remaining);
+    }
+
+    @Test
+    void batchInsertTagLinks_NoTags_DoesNothing() {
+        // Act
+        jdbcRepository.batchInsertTagLinks(Map.of(1L, Set.of()));
+        jdbcRepository.deleteTagLinks(List.of());
+
+        // Assert
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translation_tags", Integer.class));
+    }
+
+    @Test
+    void deleteAll_RemovesTranslationsAndTagLinks() {
+        // Arrange
+        jdbcRepository.batchInsert(1L, english.getId(), List.of(
+                new TranslationEntryDTO("greeting", "Hello"),
+                new TranslationEntryDTO("farewell", "Goodbye")), NOW);
+        jdbcRepository.batchInsertTagLinks(Map.of(1L, Set.of(web.getId())));
+
+        // Act
+        int deleted = jdbcRepository.deleteAll();
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translation_tags", Integer.class));
+    }
+}
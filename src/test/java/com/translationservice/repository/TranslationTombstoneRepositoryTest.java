@@ -0,0 +1,116 @@
+package com.translationservice.repository;
+
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.dto.TranslationDeltaDTO;
+import com.translationservice.model.Locale;
+import com.translationservice.model.Translation;
+import com.translationservice.model.TranslationTombstone;
+import com.translationservice.search.TranslationSearchIndex;
+import com.translationservice.service.TagResolver;
+import com.translationservice.service.TranslationMapper;
+import com.translationservice.service.TranslationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deletes through the service against H2, so the tombstone is written and read back by the real mapping.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({TranslationService.class, TranslationMapper.class, ReferenceDictionary.class, TagJdbcRepository.class})
+class TranslationTombstoneRepositoryTest {
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ReferenceDictionary referenceDictionary;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private LocaleBundleCache localeBundleCache;
+
+    @MockBean
+    private TranslationSearchIndex searchIndex;
+
+    @MockBean
+    private TagResolver tagResolver;
+
+    private Locale english;
+
+    @BeforeEach
+    void setUp() {
+        english = Locale.builder().code("en").name("English").build();
+        entityManager.persist(english);
+        entityManager.flush();
+        referenceDictionary.refresh();
+    }
+
+    @Test
+    void deleteTranslation_WritesTombstoneReportedByNextDelta() {
+        Translation translation = Translation.builder()
+                .key("greeting")
+                .content("Hello")
+                .locale(english)
+                .tags(new HashSet<>())
+                .build();
+        entityManager.persist(translation);
+        entityManager.flush();
+        Instant since = Instant.now();
+        LocalDateTime before = LocalDateTime.now();
+
+        translationService.deleteTranslation(translation.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TranslationTombstone> tombstones = tombstoneRepository.findAll();
+        assertEquals(1, tombstones.size());
+        assertNotNull(tombstones.get(0).getId());
+        assertEquals("greeting", tombstones.get(0).getKey());
+        assertEquals(english.getId(), tombstones.get(0).getLocale().getId());
+        assertFalse(tombstones.get(0).getDeletedAt().isBefore(before));
+        assertEquals(tombstones.get(0).getDeletedAt(), tombstoneRepository.findLastDeletedByLocale(english).orElseThrow());
+
+        TranslationDeltaDTO delta = translationService.getTranslationDelta("en", since);
+        assertEquals(List.of("greeting"), delta.getDeleted());
+        assertTrue(delta.getChanged().isEmpty());
+        assertFalse(delta.isFull());
+    }
+
+    @Test
+    void deleteDeletedBefore_PurgesOnlyOlderTombstones() {
+        TranslationTombstone old = tombstoneRepository.save(new TranslationTombstone("old.key", english));
+        tombstoneRepository.save(new TranslationTombstone("recent.key", english));
+        entityManager.flush();
+        entityManager.createQuery("UPDATE TranslationTombstone tt SET tt.deletedAt = :deletedAt WHERE tt.id = :id")
+                .setParameter("deletedAt", LocalDateTime.now().minusDays(40))
+                .setParameter("id", old.getId())
+                .executeUpdate();
+
+        int purged = tombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minusDays(30));
+
+        assertEquals(1, purged);
+        assertEquals(List.of("recent.key"), tombstoneRepository.findDeletedKeysSince(english, LocalDateTime.now().minusDays(60)));
+    }
+}
@@ -0,0 +1,254 @@
+package com.translationservice.search;
+
+import com.translationservice.dto.TranslationIndexEntryDTO;
+import com.translationservice.dto.TranslationTagLinkDTO;
+import com.translationservice.repository.TranslationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationSearchIndexTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TranslationSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new TranslationSearchIndex(translationRepository, transactionManager, true);
+        lenient().when(translationRepository.streamIndexEntries()).thenReturn(Stream.of(
+                new TranslationIndexEntryDTO(1L, "welcome.title", "Welcome Home", "en"),
+                new TranslationIndexEntryDTO(2L, "goodbye.title", "See you soon", "en"),
+                new TranslationIndexEntryDTO(3L, "welcome.subtitle", "Glad you're here", "fr")));
+        lenient().when(translationRepository.streamIndexTagLinks()).thenReturn(Stream.of(
+                new TranslationTagLinkDTO(1L, "web"),
+                new TranslationTagLinkDTO(1L, "mobile"),
+                new TranslationTagLinkDTO(3L, "web")));
+    }
+
+    @Test
+    void rebuild_MakesIndexReadyAndSearchable() {
+        // Arrange
+        assertFalse(searchIndex.isReady());
+
+        // Act
+        searchIndex.rebuild();
+
+        // Assert
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(1L, 3L), searchIndex.findIdsByKey("welcome"));
+        assertEquals(List.of(1L, 2L, 3L), searchIndex.findIdsByKey("title"));
+        assertEquals(List.of(2L, 3L), searchIndex.findIdsByContent("you"));
+    }
+
+    @Test
+    void onApplicationReady_WhenEnabled_BuildsIndex() {
+        // Act
+        searchIndex.onApplicationReady();
+
+        // Assert
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(1L, 3L), searchIndex.findIdsByKey("welcome"));
+    }
+
+    @Test
+    void onApplicationReady_WhenDisabled_LeavesIndexUnbuilt() {
+        // Arrange
+        TranslationSearchIndex disabled = new TranslationSearchIndex(translationRepository, transactionManager, false);
+
+        // Act
+        disabled.onApplicationReady();
+
+        // Assert
+        assertFalse(disabled.isReady());
+        verify(translationRepository, never()).streamIndexEntries();
+    }
+
+    @Test
+    void rebuild_ReplaysWritesThatLandWhileStreaming() {
+        // Arrange
+        searchIndex.rebuild();
+        when(translationRepository.streamIndexEntries()).thenAnswer(invocation -> {
+            // Committed after the rebuilt state was read from the database
+            searchIndex.put(4L, "welcome.banner", "Hello", "en", List.of("web"));
+            searchIndex.remove(1L);
+            return Stream.of(
+                    new TranslationIndexEntryDTO(1L, "welcome.title", "Welcome Home", "en"),
+                    new TranslationIndexEntryDTO(3L, "welcome.subtitle", "Glad you're here", "fr"));
+        });
+        when(translationRepository.streamIndexTagLinks()).thenReturn(Stream.of(new TranslationTagLinkDTO(3L, "web")));
+
+        // Act
+        searchIndex.rebuild();
+
+        // Assert
+        assertEquals(List.of(3L, 4L), searchIndex.findIdsByKey("welcome"));
+        assertArrayEquals(new long[]{3L, 4L}, searchIndex.search(null, null, null, List.of("web"), false).getIds());
+    }
+
+    @Test
+    void rebuild_WhenStreamingFails_KeepsPreviousStateAndStopsRecordingWrites() {
+        // Arrange
+        searchIndex.rebuild();
+        when(translationRepository.streamIndexEntries()).thenThrow(new IllegalStateException("connection lost"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> searchIndex.rebuild());
+        searchIndex.put(4L, "welcome.banner", "Hello", "en", List.of());
+
+        // Assert
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(1L, 3L, 4L), searchIndex.findIdsByKey("welcome"));
+    }
+
+    @Test
+    void find_IsCaseInsensitiveAndTreatsWildcardsLiterally() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act & Assert
+        assertEquals(List.of(1L), searchIndex.findIdsByContent("HOME"));
+        assertEquals(List.of(), searchIndex.findIdsByKey("welcome%title"));
+        assertEquals(List.of(3L), searchIndex.findIdsByContent("'"));
+    }
+
+    @Test
+    void put_ReplacesPreviousTextOfSameId() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act
+        searchIndex.put(1L, "farewell.title", "Bye", "en", List.of());
+        searchIndex.put(4L, "welcome.banner", "Hello", "en", List.of());
+
+        // Assert
+        assertEquals(List.of(3L, 4L), searchIndex.findIdsByKey("welcome"));
+        assertEquals(List.of(1L), searchIndex.findIdsByKey("farewell"));
+        assertEquals(List.of(), searchIndex.findIdsByContent("home"));
+    }
+
+    @Test
+    void remove_DropsIdFromResults() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act
+        searchIndex.remove(3L);
+
+        // Assert
+        assertEquals(List.of(1L), searchIndex.findIdsByKey("welcome"));
+        assertEquals(List.of(1L, 2L), searchIndex.findIdsByKey("ti"));
+    }
+
+    @Test
+    void search_CombinesLocaleTagAndTextFilters() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act & Assert
+        assertArrayEquals(new long[]{1L, 2L}, searchIndex.search(null, null, "en", List.of(), false).getIds());
+        assertArrayEquals(new long[]{1L, 3L}, searchIndex.search(null, null, null, List.of("web"), false).getIds());
+        assertArrayEquals(new long[]{1L}, searchIndex.search(null, null, null, List.of("web", "mobile"), false).getIds());
+        assertArrayEquals(new long[]{3L}, searchIndex.search("welcome", "", "fr", List.of("web"), false).getIds());
+        assertArrayEquals(new long[]{}, searchIndex.search(null, null, "de", List.of(), false).getIds());
+        assertArrayEquals(new long[]{}, searchIndex.search(null, null, null, List.of("web", "unknown"), false).getIds());
+    }
+
+    @Test
+    void search_MixedCaseFilters_MatchLikeTheDatabaseAndFacetStoredNames() {
+        // Arrange
+        searchIndex.rebuild();
+        searchIndex.put(2L, "goodbye.title", "See you soon", "en", List.of("Móbile"));
+
+        // Act
+        SearchMatches matches = searchIndex.search(null, null, "EN", List.of("WEB", "mobile"), true);
+
+        // Assert
+        assertArrayEquals(new long[]{1L}, matches.getIds());
+        assertEquals(Map.of("web", 1L, "mobile", 1L), matches.getFacets().getTags());
+        assertEquals(Map.of("en", 1L), matches.getFacets().getLocales());
+        assertArrayEquals(new long[]{1L, 2L}, searchIndex.search(null, null, "En", List.of("MOBILE"), false).getIds());
+    }
+
+    @Test
+    void search_WithFacets_CountsMatchesPerTagAndLocale() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act
+        SearchMatches matches = searchIndex.search("title", null, null, List.of(), true);
+
+        // Assert
+        assertArrayEquals(new long[]{1L, 2L, 3L}, matches.getIds());
+        assertEquals(Map.of("web", 2L, "mobile", 1L), matches.getFacets().getTags());
+        assertEquals(List.of("web", "mobile"), List.copyOf(matches.getFacets().getTags().keySet()));
+        assertEquals(Map.of("en", 2L, "fr", 1L), matches.getFacets().getLocales());
+        assertNull(searchIndex.search("title", null, null, List.of(), false).getFacets());
+    }
+
+    @Test
+    void put_WithChangedTagsAndLocale_MovesDocumentBetweenBitmaps() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act
+        searchIndex.put(1L, "welcome.title", "Welcome Home", "fr", List.of("admin"));
+        searchIndex.remove(3L);
+
+        // Assert
+        assertArrayEquals(new long[]{}, searchIndex.search(null, null, null, List.of("web"), false).getIds());
+        assertArrayEquals(new long[]{1L}, searchIndex.search("title", null, "fr", List.of("admin"), false).getIds());
+        assertArrayEquals(new long[]{2L}, searchIndex.search(null, null, "en", null, false).getIds());
+    }
+
+    @Test
+    void put_InsideTransaction_AppliesOnlyAfterCommit() {
+        // Arrange
+        searchIndex.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            searchIndex.put(4L, "welcome.banner", "Hello", "en", List.of());
+            assertEquals(List.of(1L, 3L), searchIndex.findIdsByKey("welcome"));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertEquals(List.of(1L, 3L, 4L), searchIndex.findIdsByKey("welcome"));
+    }
+
+    @Test
+    void put_ManyUpdatesOfSameId_CompactsWithoutLosingDocuments() {
+        // Arrange
+        searchIndex.rebuild();
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            searchIndex.put(2L, "goodbye.title", "See you soon " + i, "en", List.of());
+        }
+
+        // Assert
+        assertEquals(List.of(2L), searchIndex.findIdsByContent("soon 4999"));
+        assertEquals(List.of(), searchIndex.findIdsByContent("soon 4998"));
+        assertEquals(List.of(1L, 2L, 3L), searchIndex.findIdsByKey("title"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.translationservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramPostingsTest {
+
+    @Test
+    void candidates_ReturnsOrdinalsContainingEveryTrigram() {
+        // Arrange
+        TrigramPostings postings = new TrigramPostings();
+        postings.add(0, "welcome.title");
+        postings.add(1, "goodbye.title");
+        postings.add(2, "welcome.subtitle");
+
+        // Act
+        int[] candidates = postings.candidates("welcome.t");
+
+        // Assert
+        assertArrayEquals(new int[]{0}, candidates);
+        assertArrayEquals(new int[]{0, 1, 2}, postings.candidates("title"));
+    }
+
+    @Test
+    void candidates_WithUnknownTrigram_ReturnsEmpty() {
+        // Arrange
+        TrigramPostings postings = new TrigramPostings();
+        postings.add(0, "welcome.title");
+
+        // Act & Assert
+        assertEquals(0, postings.candidates("xyz").length);
+    }
+
+    @Test
+    void candidates_CanContainFalsePositivesThatNeedVerification() {
+        // Arrange
+        TrigramPostings postings = new TrigramPostings();
+        postings.add(0, "abcd bcde");
+
+        // Act
+        int[] candidates = postings.candidates("abcde");
+
+        // Assert
+        assertArrayEquals(new int[]{0}, candidates);
+    }
+
+    @Test
+    void maxCandidates_ReturnsRarestTrigramPostingSize() {
+        // Arrange
+        TrigramPostings postings = new TrigramPostings();
+        postings.add(0, "title");
+        postings.add(1, "subtitle");
+        postings.add(2, "titan");
+
+        // Act & Assert
+        assertEquals(2, postings.maxCandidates("title"));
+        assertEquals(3, postings.maxCandidates("tit"));
+        assertEquals(0, postings.maxCandidates("xyz"));
+    }
+
+    @Test
+    void add_WithRepeatedTrigram_PostsOrdinalOnce() {
+        // Arrange
+        TrigramPostings postings = new TrigramPostings();
+        postings.add(0, "aaaaaa");
+        postings.add(1, "aaa");
+
+        // Act & Assert
+        assertArrayEquals(new int[]{0, 1}, postings.candidates("aaaa"));
+        assertEquals(1, postings.trigramCount());
+    }
+}
@@ -12,10 +12,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -27,9 +30,6 @@ class JwtAuthenticationFilterTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
-    @Mock
-    private Authentication authentication;
-
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
@@ -58,16 +58,18 @@ class JwtAuthenticationFilterTest {
 
         request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
 
-        when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(VALID_TOKEN)).thenReturn(authentication);
+        when(jwtTokenProvider.verify(VALID_TOKEN)).thenReturn(Optional.of(
+                new VerifiedToken("test", List.of(new SimpleGrantedAuthority("ROLE_USER")), null)));
 
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 
-        verify(jwtTokenProvider).validateToken(VALID_TOKEN);
-        verify(jwtTokenProvider).getAuthentication(VALID_TOKEN);
-        assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtTokenProvider, times(1)).verify(VALID_TOKEN);
+        verifyNoMoreInteractions(jwtTokenProvider);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("test", authentication.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), List.copyOf(authentication.getAuthorities()));
         verify(filterChain).doFilter(request, response);
     }
 
@@ -76,13 +78,13 @@ class JwtAuthenticationFilterTest {
 
         request.addHeader("Authorization", "Bearer " + INVALID_TOKEN);
 
-        when(jwtTokenProvider.validateToken(INVALID_TOKEN)).thenReturn(false);
+        when(jwtTokenProvider.verify(INVALID_TOKEN)).thenReturn(Optional.empty());
 
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 
-        verify(jwtTokenProvider).validateToken(INVALID_TOKEN);
+        verify(jwtTokenProvider).verify(INVALID_TOKEN);
         verify(jwtTokenProvider, never()).getAuthentication(anyString());
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
@@ -94,8 +96,7 @@ class JwtAuthenticationFilterTest {
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
 
-        verify(jwtTokenProvider, never()).validateToken(anyString());
-        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verifyNoInteractions(jwtTokenProvider);
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
     }
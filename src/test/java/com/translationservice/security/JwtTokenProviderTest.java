@@ -1,15 +1,27 @@
 package com.translationservice.security;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
 
 class JwtTokenProviderTest {
 
@@ -73,4 +85,108 @@ class JwtTokenProviderTest {
 
         assertEquals("test", username);
     }
+
+    @Test
+    void verify_ValidToken_ReturnsClaimsAndCachesThem() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("test", "test",
+                Arrays.asList(new SimpleGrantedAuthority("ROLE_USER")));
+        String token = jwtTokenProvider.createToken(authentication);
+
+        VerifiedToken first = jwtTokenProvider.verify(token).orElseThrow();
+        VerifiedToken second = jwtTokenProvider.verify(token).orElseThrow();
+
+        assertEquals("test", first.getUsername());
+        assertEquals(Arrays.asList(new SimpleGrantedAuthority("ROLE_USER")), first.getAuthorities());
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_WithCacheDisabled_VerifiesEveryTime() {
+        jwtTokenProvider.cacheSize = 0;
+        jwtTokenProvider.init();
+        String token = jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken("test", "test", Collections.emptyList()));
+
+        assertNotSame(jwtTokenProvider.verify(token).orElseThrow(), jwtTokenProvider.verify(token).orElseThrow());
+    }
+
+    @Test
+    void verify_CachedTokenPastExpiry_ReturnsEmpty() {
+        Instant now = Instant.parse("2024-03-01T12:00:00Z");
+        jwtTokenProvider.clock = Clock.fixed(now, ZoneOffset.UTC);
+        jwtTokenProvider.validityInMilliseconds = 60_000;
+        jwtTokenProvider.init();
+        String token = jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken("test", "test", Collections.emptyList()));
+        assertTrue(jwtTokenProvider.verify(token).isPresent());
+
+        jwtTokenProvider.clock = Clock.fixed(now.plus(Duration.ofMinutes(2)), ZoneOffset.UTC);
+
+        assertTrue(jwtTokenProvider.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_CachedTokenStoredAgainNearExpiry_ExpiresAtTokenExpiry() {
+        Instant now = Instant.parse("2024-03-01T12:00:00Z");
+        jwtTokenProvider.clock = Clock.fixed(now, ZoneOffset.UTC);
+        jwtTokenProvider.validityInMilliseconds = 60_000;
+        jwtTokenProvider.init();
+        String token = jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken("test", "test", Collections.emptyList()));
+        VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+        String hash = jwtTokenProvider.verifiedTokens.asMap().keySet().iterator().next();
+
+        // A second caller that verified the same token concurrently stores its result 50 seconds later
+        jwtTokenProvider.clock = Clock.fixed(now.plusSeconds(50), ZoneOffset.UTC);
+        jwtTokenProvider.verifiedTokens.put(hash, verified);
+
+        long expiresAfter = jwtTokenProvider.verifiedTokens.policy().expireVariably().orElseThrow()
+                .getExpiresAfter(hash, TimeUnit.SECONDS).orElseThrow();
+        assertTrue(expiresAfter <= 10, "expires after " + expiresAfter + "s");
+    }
+
+    @Test
+    void verify_TokenWithoutExpiry_StaysCached() {
+        String token = Jwts.builder()
+                .setSubject("test")
+                .signWith(Keys.hmacShaKeyFor(jwtTokenProvider.secretKey.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+        assertNull(verified.getExpiresAt());
+        assertSame(verified, jwtTokenProvider.verify(token).orElseThrow());
+    }
+
+    @Test
+    void verify_WithoutSha256_FailsInsteadOfCachingUnderRawToken() {
+        String token = jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken("test", "test", Collections.emptyList()));
+
+        try (MockedStatic<MessageDigest> digest = mockStatic(MessageDigest.class)) {
+            digest.when(() -> MessageDigest.getInstance("SHA-256")).thenThrow(new NoSuchAlgorithmException("SHA-256"));
+
+            assertThrows(IllegalStateException.class, () -> jwtTokenProvider.verify(token));
+        }
+    }
+
+    @Test
+    void verify_TokenSignedWithAnotherKey_ReturnsEmpty() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider();
+        otherProvider.secretKey = "anotherSecretKey1234567890123456789";
+        otherProvider.init();
+        String token = otherProvider.createToken(
+                new UsernamePasswordAuthenticationToken("test", "test", Collections.emptyList()));
+
+        assertTrue(jwtTokenProvider.verify(token).isEmpty());
+        assertFalse(jwtTokenProvider.validateToken(token));
+    }
+
+    @Test
+    void getAuthentication_TokenWithoutAuthorities_ReturnsNoAuthorities() {
+        String token = jwtTokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken("test", "test", Collections.emptyList()));
+
+        assertTrue(jwtTokenProvider.getAuthentication(token).getAuthorities().isEmpty());
+    }
 }
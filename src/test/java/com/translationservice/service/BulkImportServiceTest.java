@@ -0,0 +1,242 @@
+package com.translationservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.dto.BulkImportResultDTO;
+import com.translationservice.dto.BulkImportRowResultDTO;
+import com.translationservice.dto.TranslationEntryDTO;
+import com.translationservice.repository.IdBlockAllocator;
+import com.translationservice.repository.TranslationJdbcRepository;
+import com.translationservice.search.TranslationSearchIndex;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    @Mock
+    private ReferenceDictionary referenceDictionary;
+
+    @Mock
+    private TagResolver tagResolver;
+
+    @Mock
+    private TranslationJdbcRepository translationJdbcRepository;
+
+    @Mock
+    private IdBlockAllocator idBlockAllocator;
+
+    @Mock
+    private LocaleBundleCache localeBundleCache;
+
+    @Mock
+    private TranslationSearchIndex searchIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LocaleInfo en;
+    private LocaleInfo fr;
+
+    @BeforeEach
+    void setUp() {
+        en = new LocaleInfo(1L, "en", "English");
+        fr = new LocaleInfo(2L, "fr", "French");
+        when(referenceDictionary.getLocales()).thenReturn(List.of(en, fr));
+    }
+
+    private BulkImportService service(int batchSize) {
+        return new BulkImportService(referenceDictionary, tagResolver, translationJdbcRepository, idBlockAllocator, localeBundleCache, searchIndex,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), transactionManager, batchSize);
+    }
+
+    private BulkImportResultDTO importBody(BulkImportService service, String body, boolean upsert) throws Exception {
+        return service.importTranslations(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), upsert);
+    }
+
+    @Test
+    void importTranslations_JsonArray_InsertsPerLocaleBatchAndLinksTags() throws Exception {
+        // Arrange
+        when(tagResolver.resolve(List.of("mobile", "web")))
+                .thenReturn(Map.of("mobile", new TagInfo(5L, "mobile"), "web", new TagInfo(6L, "web")));
+        when(idBlockAllocator.allocate(IdBlockAllocator.TRANSLATIONS, 2)).thenReturn(100L);
+        when(idBlockAllocator.allocate(IdBlockAllocator.TRANSLATIONS, 1)).thenReturn(200L);
+
+        // Act
+        BulkImportResultDTO result = importBody(service(10), "[" +
+                "{\"key\":\"a\",\"content\":\"A\",\"localeCode\":\"en\",\"tags\":[\"mobile\",\"web\"]}," +
+                "{\"key\":\"a\",\"content\":\"A fr\",\"localeCode\":\"fr\"}," +
+                "{\"key\":\"b\",\"content\":\"B\",\"localeCode\":\"en\"}]", false);
+
+        // Assert
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertEquals(List.of(0, 1, 2), result.getResults().stream().map(BulkImportRowResultDTO::getIndex).toList());
+        assertEquals(List.of(100L, 200L, 101L), result.getResults().stream().map(BulkImportRowResultDTO::getId).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TranslationEntryDTO>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(translationJdbcRepository).batchInsert(eq(100L), eq(1L), inserted.capture(), any(LocalDateTime.class));
+        assertEquals(List.of("a", "b"), inserted.getValue().stream().map(TranslationEntryDTO::getKey).toList());
+        verify(translationJdbcRepository).batchInsertTagLinks(Map.of(100L, Set.of(5L, 6L)));
+        verify(localeBundleCache).evict("en");
+        verify(localeBundleCache).evict("fr");
+        verify(searchIndex).put(100L, "a", "A", "en", List.of("mobile", "web"));
+        verify(searchIndex).put(200L, "a", "A fr", "fr", List.of());
+        verify(searchIndex).put(101L, "b", "B", "en", List.of());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void importTranslations_TagCaseVariants_LinkAndIndexStoredTagOnce() throws Exception {
+        // Arrange
+        TagInfo mobile = new TagInfo(5L, "mobile");
+        when(tagResolver.resolve(List.of("Mobile", "MOBILE"))).thenReturn(Map.of("Mobile", mobile, "MOBILE", mobile));
+        when(idBlockAllocator.allocate(IdBlockAllocator.TRANSLATIONS, 1)).thenReturn(100L);
+
+        // Act
+        importBody(service(10), "{\"key\":\"a\",\"content\":\"A\",\"localeCode\":\"en\",\"tags\":[\"Mobile\",\"MOBILE\"]}", false);
+
+        // Assert
+        verify(translationJdbcRepository).batchInsertTagLinks(Map.of(100L, Set.of(5L)));
+        verify(searchIndex).put(100L, "a", "A", "en", List.of("mobile"));
+    }
+
+    @Test
+    void importTranslations_Ndjson_ReportsInvalidRowsWithoutWritingThem() throws Exception {
+        // Act
+        BulkImportResultDTO result = importBody(service(10),
+                "{\"key\":\"\",\"content\":\"A\",\"localeCode\":\"en\"}\n" +
+                "{\"key\":\"a\",\"content\":\"A\",\"localeCode\":\"xx\"}\n" +
+                "{\"key\":\"a\",\"content\":\"A\",\"localeCode\":\"en\",\"tags\":[\" \"]}\n", false);
+
+        // Assert
+        assertEquals(3, result.getFailed());
+        assertEquals("Translation key is required", result.getResults().get(0).getMessage());
+        assertEquals("Locale not found with code: xx", result.getResults().get(1).getMessage());
+        assertTrue(result.getResults().get(2).getMessage().startsWith("Tag names"));
+        verifyNoInteractions(translationJdbcRepository, transactionManager);
+    }
+
+    @Test
+    void importTranslations_ExistingKeys_FailWithoutUpsertAndUpdateWithIt() throws Exception {
+        // Arrange
+        when(translationJdbcRepository.findIdsByLocaleAndKeys(eq(1L), anyCollection())).thenReturn(Map.of("a", 7L));
+        String body = "{\"key\":\"a\",\"content\":\"A\",\"localeCode\":\"en\"}";
+
+        // Act
+        BulkImportResultDTO rejected = importBody(service(10), body, false);
+        BulkImportResultDTO upserted = importBody(service(10), body, true);
+
+        // Assert
+        assertEquals(BulkImportRowResultDTO.Status.FAILED, rejected.getResults().get(0).getStatus());
+        assertTrue(rejected.getResults().get(0).getMessage().contains("already exists"));
+        assertEquals(BulkImportRowResultDTO.Status.UPDATED, upserted.getResults().get(0).getStatus());
+        assertEquals(7L, upserted.getResults().get(0).getId());
+        verify(translationJdbcRepository).batchUpdate(eq(1L), argThat(entries -> entries.size() == 1), any(LocalDateTime.class));
+        verify(translationJdbcRepository).deleteTagLinks(List.of(7L));
+        verify(idBlockAllocator, never()).allocate(anyString(), anyInt());
+        verify(localeBundleCache, times(1)).evict("en");
+    }
+
+    @Test
+    void importTranslations_KeyInAnotherCase_UpdatesStoredRowInsteadOfInserting() throws Exception {
+        // Arrange
+        when(translationJdbcRepository.findIdsByLocaleAndKeys(1L, List.of("Hello"))).thenReturn(Map.of("hello", 7L));
+        String body = "{\"key\":\"Hello\",\"content\":\"Hi\",\"localeCode\":\"en\"}";
+
+        // Act
+        BulkImportResultDTO rejected = importBody(service(10), body, false);
+        BulkImportResultDTO upserted = importBody(service(10), body, true);
+
+        // Assert
+        assertTrue(rejected.getResults().get(0).getMessage().contains("already exists"));
+        assertEquals(BulkImportRowResultDTO.Status.UPDATED, upserted.getResults().get(0).getStatus());
+        assertEquals(7L, upserted.getResults().get(0).getId());
+        verify(translationJdbcRepository, never()).batchInsert(anyLong(), anyLong(), argThat(entries -> !entries.isEmpty()), any(LocalDateTime.class));
+        verify(searchIndex).put(7L, "hello", "Hi", "en", List.of());
+    }
+
+    @Test
+    void importTranslations_KeysDifferingOnlyInCase_RejectsTheSecondAsDuplicate() throws Exception {
+        // Act
+        BulkImportResultDTO result = importBody(service(10),
+                "{\"key\":\"hello\",\"content\":\"1\",\"localeCode\":\"en\"}" +
+                "{\"key\":\"Héllo\",\"content\":\"2\",\"localeCode\":\"en\"}" +
+                "{\"key\":\"Hello\",\"content\":\"3\",\"localeCode\":\"fr\"}", false);
+
+        // Assert
+        assertEquals(2, result.getCreated());
+        assertEquals(BulkImportRowResultDTO.Status.FAILED, result.getResults().get(1).getStatus());
+        assertTrue(result.getResults().get(1).getMessage().startsWith("Duplicate key in request"));
+    }
+
+    @Test
+    void importTranslations_SplitsIntoBatchesAndRejectsDuplicates() throws Exception {
+        // Act
+        BulkImportResultDTO result = importBody(service(2),
+                "{\"key\":\"a\",\"content\":\"1\",\"localeCode\":\"en\"}" +
+                "{\"key\":\"b\",\"content\":\"2\",\"localeCode\":\"en\"}" +
+                "{\"key\":\"a\",\"content\":\"3\",\"localeCode\":\"en\"}" +
+                "{\"key\":\"c\",\"content\":\"4\",\"localeCode\":\"en\"}", false);
+
+        // Assert
+        assertEquals(3, result.getCreated());
+        assertEquals(BulkImportRowResultDTO.Status.FAILED, result.getResults().get(2).getStatus());
+        assertTrue(result.getResults().get(2).getMessage().startsWith("Duplicate key in request"));
+        verify(translationJdbcRepository, times(2)).batchInsert(anyLong(), eq(1L), anyList(), any(LocalDateTime.class));
+        verify(idBlockAllocator).allocate(IdBlockAllocator.TRANSLATIONS, 2);
+        verify(idBlockAllocator).allocate(IdBlockAllocator.TRANSLATIONS, 1);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void importTranslations_FailedBatchIsReportedAndLaterBatchesContinue() throws Exception {
+        // Arrange
+        doThrow(new DataIntegrityViolationException("boom"))
+                .doNothing()
+                .when(translationJdbcRepository).batchInsert(anyLong(), eq(1L), anyList(), any(LocalDateTime.class));
+
+        // Act
+        BulkImportResultDTO result = importBody(service(1),
+                "[{\"key\":\"a\",\"content\":\"1\",\"localeCode\":\"en\"},{\"key\":\"b\",\"content\":\"2\",\"localeCode\":\"en\"}]", false);
+
+        // Assert
+        assertEquals(BulkImportRowResultDTO.Status.FAILED, result.getResults().get(0).getStatus());
+        assertEquals("Batch failed: boom", result.getResults().get(0).getMessage());
+        assertEquals(BulkImportRowResultDTO.Status.CREATED, result.getResults().get(1).getStatus());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void importTranslations_MalformedJson_StopsAndReportsTheRow() throws Exception {
+        // Act
+        BulkImportResultDTO result = importBody(service(10),
+                "[{\"key\":\"a\",\"content\":\"1\",\"localeCode\":\"en\"}, {\"key\": ]", false);
+
+        // Assert
+        assertEquals(2, result.getTotal());
+        assertEquals(BulkImportRowResultDTO.Status.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(1, result.getResults().get(1).getIndex());
+        assertTrue(result.getResults().get(1).getMessage().startsWith("Malformed JSON"));
+    }
+}
@@ -1,14 +1,16 @@
 package com.translationservice.service;
 
+import com.translationservice.dto.TranslationEntryDTO;
 import com.translationservice.model.Locale;
 import com.translationservice.model.Tag;
-import com.translationservice.model.Translation;
+import com.translationservice.repository.IdBlockAllocator;
 import com.translationservice.repository.LocaleRepository;
 import com.translationservice.repository.TagRepository;
-import com.translationservice.repository.TranslationRepository;
+import com.translationservice.repository.TranslationJdbcRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -23,8 +25,15 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -33,7 +42,7 @@ import static org.mockito.Mockito.*;
 class DataPopulationServiceTest {
 
     @Mock
-    private TranslationRepository translationRepository;
+    private TranslationJdbcRepository translationJdbcRepository;
 
     @Mock
     private LocaleRepository localeRepository;
@@ -41,6 +50,9 @@ class DataPopulationServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private IdBlockAllocator idBlockAllocator;
+
     @Mock
     private PlatformTransactionManager transactionManager;
 
@@ -56,20 +68,21 @@ class DataPopulationServiceTest {
     void setUp() {
         // Prepare standard locales
         locales = Arrays.asList(
-                Locale.builder().code("en").name("English").build(),
-                Locale.builder().code("fr").name("French").build()
+                Locale.builder().id(1L).code("en").name("English").build(),
+                Locale.builder().id(2L).code("fr").name("French").build()
         );
 
         // Configure test-specific settings
         ReflectionTestUtils.setField(dataPopulationService, "populateData", true);
         ReflectionTestUtils.setField(dataPopulationService, "dataCount", 100);
+        ReflectionTestUtils.setField(dataPopulationService, "threads", 2);
+        ReflectionTestUtils.setField(dataPopulationService, "batchSize", 4);
 
         // Lenient mocking for common repository behaviors
         lenient().when(localeRepository.findAll()).thenReturn(locales);
         lenient().when(localeRepository.saveAll(anyList())).thenReturn(locales);
         lenient().when(tagRepository.findAll()).thenReturn(new ArrayList<>());
         lenient().when(tagRepository.saveAll(anyList())).thenReturn(new ArrayList<>());
-        lenient().when(translationRepository.save(any())).thenReturn(new Translation());
         lenient().when(transactionTemplate.execute(any())).thenReturn(new ArrayList<>());
     }
 
@@ -106,7 +119,93 @@ class DataPopulationServiceTest {
         dataPopulationService.run();
 
         // Verify no repositories were called
-        verify(translationRepository, never()).deleteAll();
+        verify(translationJdbcRepository, never()).deleteAll();
+        verify(translationJdbcRepository, never()).batchInsert(anyLong(), any(), anyList(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generateTestData_InsertsPartitionsInParallelWithTags() {
+        // Arrange
+        when(tagRepository.findAll()).thenReturn(Arrays.asList(createTag(10L, "mobile"), createTag(11L, "web"),
+                createTag(12L, "admin"), createTag(13L, "error")));
+        when(idBlockAllocator.allocate(eq(IdBlockAllocator.TRANSLATIONS), anyInt()))
+                .thenReturn(100L, 200L, 300L, 400L, 500L, 600L);
+
+        // Act
+        dataPopulationService.generateTestData(11);
+
+        // Assert
+        verify(translationJdbcRepository).deleteAll();
+        ArgumentCaptor<Long> localeIds = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<List<TranslationEntryDTO>> entries = ArgumentCaptor.forClass(List.class);
+        // 11 rows over 2 locales: en gets 6 (4 + 2), fr gets 5 (4 + 1)
+        verify(translationJdbcRepository, times(4)).batchInsert(anyLong(), localeIds.capture(), entries.capture(), any());
+        Set<String> keys = new HashSet<>();
+        entries.getAllValues().forEach(batch -> batch.forEach(entry -> keys.add(entry.getKey())));
+        assertEquals(11, keys.size());
+        assertTrue(keys.contains("key.en.5"));
+        assertTrue(keys.contains("key.fr.4"));
+        assertFalse(keys.contains("key.fr.5"));
+        assertEquals(6, entries.getAllValues().stream()
+                .filter(batch -> batch.get(0).getKey().startsWith("key.en.")).mapToInt(List::size).sum());
+
+        ArgumentCaptor<Map<Long, Set<Long>>> links = ArgumentCaptor.forClass(Map.class);
+        verify(translationJdbcRepository, times(4)).batchInsertTagLinks(links.capture());
+        int linkedRows = 0;
+        for (Map<Long, Set<Long>> batch : links.getAllValues()) {
+            for (Set<Long> tagIds : batch.values()) {
+                assertTrue(tagIds.size() >= 1 && tagIds.size() <= 3);
+                assertTrue(Set.of(10L, 11L, 12L, 13L).containsAll(tagIds));
+            }
+            linkedRows += batch.size();
+        }
+        assertEquals(11, linkedRows);
+    }
+
+    @Test
+    void generateTestData_PartitionFailure_Throws() {
+        // Arrange
+        when(idBlockAllocator.allocate(eq(IdBlockAllocator.TRANSLATIONS), anyInt()))
+                .thenThrow(new IllegalStateException("No id generator row for: translations"));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> dataPopulationService.generateTestData(10));
+        assertEquals("Data population failed", exception.getMessage());
+        assertEquals("No id generator row for: translations", exception.getCause().getMessage());
+    }
+
+    @Test
+    void generateTestData_InterruptedWhileWaiting_StopsWorkersAndKeepsInterruptFlag() throws Exception {
+        // Arrange: the caller is interrupted once, by the first busy worker, and workers block until stopped
+        Thread caller = Thread.currentThread();
+        AtomicBoolean callerInterrupted = new AtomicBoolean();
+        CountDownLatch never = new CountDownLatch(1);
+        CountDownLatch workerStopped = new CountDownLatch(1);
+        when(idBlockAllocator.allocate(eq(IdBlockAllocator.TRANSLATIONS), anyInt())).thenAnswer(invocation -> {
+            if (callerInterrupted.compareAndSet(false, true)) {
+                caller.interrupt();
+            }
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                workerStopped.countDown();
+                throw e;
+            }
+            return 1L;
+        });
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> dataPopulationService.generateTestData(10));
+
+        // Assert
+        assertTrue(Thread.interrupted(), "the caller's interrupt flag is restored");
+        assertEquals("Data population interrupted", exception.getMessage());
+        assertInstanceOf(InterruptedException.class, exception.getCause());
+        assertTrue(workerStopped.await(5, TimeUnit.SECONDS), "the busy worker is interrupted");
+        verify(translationJdbcRepository, never()).batchInsert(anyLong(), any(), anyList(), any());
     }
 
     @Test
@@ -143,8 +242,8 @@ class DataPopulationServiceTest {
     void testEnsureTagsExist_WithExistingTags() {
         // Prepare existing tags
         List<Tag> existingTags = Arrays.asList(
-                createTag("mobile"),
-                createTag("web")
+                createTag(1L, "mobile"),
+                createTag(2L, "web")
         );
 
         // Mock repository to return existing tags
@@ -179,8 +278,9 @@ class DataPopulationServiceTest {
     }
 
     // Utility method to create a tag
-    private Tag createTag(String name) {
+    private Tag createTag(Long id, String name) {
         Tag tag = new Tag();
+        tag.setId(id);
         tag.setName(name);
         return tag;
     }
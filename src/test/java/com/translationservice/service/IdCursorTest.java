@@ -0,0 +1,29 @@
+package com.translationservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdCursorTest {
+
+    @Test
+    void encode_RoundTripsAndIsOpaque() {
+        String cursor = IdCursor.encode(12345L);
+
+        assertFalse(cursor.contains("12345"));
+        assertEquals(12345L, IdCursor.decode(cursor));
+    }
+
+    @Test
+    void decode_MissingCursorStartsFromTheBeginning() {
+        assertEquals(0L, IdCursor.decode(null));
+        assertEquals(0L, IdCursor.decode(""));
+    }
+
+    @Test
+    void decode_RejectsTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> IdCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> IdCursor.decode("aWQ6YWJj"));
+        assertThrows(IllegalArgumentException.class, () -> IdCursor.decode("MTIz"));
+    }
+}
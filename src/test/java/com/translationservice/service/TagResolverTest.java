@@ -0,0 +1,207 @@
+package com.translationservice.service;
+
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.repository.IdBlockAllocator;
+import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TagJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs against H2 without a test transaction: the resolver commits tags in its own transactions.
+ * The database compares strings at primary strength, ignoring case and accents like MySQL's default collation.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tag-resolver;DB_CLOSE_DELAY=-1;COLLATION=ENGLISH STRENGTH PRIMARY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TagJdbcRepository.class, IdBlockAllocator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TagResolverTest {
+
+    @Autowired
+    private TagJdbcRepository tagJdbcRepository;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private LocaleRepository localeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Hibernate seeds its generator rows with the schema; start tag ids above the one inserted here
+        jdbcTemplate.update("DELETE FROM id_generators WHERE sequence_name = 'tags'");
+        jdbcTemplate.update("INSERT INTO id_generators (sequence_name, next_val) VALUES ('tags', 100)");
+        jdbcTemplate.update("INSERT INTO tags (id, name) VALUES (1, 'mobile')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tags");
+    }
+
+    private TagResolver resolver() {
+        return new TagResolver(tagJdbcRepository, idBlockAllocator,
+                new ReferenceDictionary(localeRepository, tagJdbcRepository), transactionManager);
+    }
+
+    private static Map<String, Long> ids(Map<String, TagInfo> tags) {
+        Map<String, Long> ids = new LinkedHashMap<>();
+        tags.forEach((name, tag) -> ids.put(name, tag.getId()));
+        return ids;
+    }
+
+    @Test
+    void resolve_ReturnsExistingIdsAndCreatesMissingTags() {
+        Map<String, Long> ids = ids(resolver().resolve(List.of("web", "mobile", "web", "admin")));
+
+        assertEquals(List.of("web", "mobile", "admin"), List.copyOf(ids.keySet()));
+        assertEquals(1L, ids.get("mobile"));
+        assertEquals(ids, tagJdbcRepository.findIdsByNames(List.of("web", "mobile", "admin")));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+
+    @Test
+    void resolve_CaseAndAccentVariants_ResolveToExistingTag() {
+        Map<String, TagInfo> tags = resolver().resolve(List.of("Mobile", "MOBILE", "móbile"));
+
+        assertEquals(Map.of("Mobile", 1L, "MOBILE", 1L, "móbile", 1L), ids(tags));
+        assertEquals(Set.of("mobile"), tags.values().stream().map(TagInfo::getName).collect(Collectors.toSet()));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+
+    @Test
+    void resolve_NewNameWithCaseVariantInSameCall_CreatesOneTag() {
+        Map<String, TagInfo> tags = resolver().resolve(List.of("Admin", "admin"));
+
+        assertNotNull(tags.get("Admin"));
+        assertEquals(tags.get("Admin").getId(), tags.get("admin").getId());
+        assertEquals("Admin", tags.get("admin").getName());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+
+    @Test
+    void resolve_NameNeverVisible_FailsAfterMaxAttempts() {
+        TagJdbcRepository repository = mock(TagJdbcRepository.class);
+        when(repository.findIdsByNames(anyList())).thenReturn(new HashMap<>());
+        TagResolver resolver = new TagResolver(repository, idBlockAllocator,
+                new ReferenceDictionary(localeRepository, repository), transactionManager);
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolve(List.of("ghost")));
+        verify(repository, times(TagResolver.MAX_ATTEMPTS)).insertMissing(anyLong(), eq(List.of("ghost")), any());
+    }
+
+    @Test
+    void resolve_DuplicateKeyOnEveryAttempt_Rethrows() {
+        TagJdbcRepository repository = mock(TagJdbcRepository.class);
+        when(repository.findIdsByNames(anyList())).thenReturn(new HashMap<>());
+        doThrow(new DuplicateKeyException("tags.name")).when(repository).insertMissing(anyLong(), anyList(), any());
+        TagResolver resolver = new TagResolver(repository, idBlockAllocator,
+                new ReferenceDictionary(localeRepository, repository), transactionManager);
+
+        assertThrows(DuplicateKeyException.class, () -> resolver.resolve(List.of("contended")));
+        verify(repository, times(TagResolver.MAX_ATTEMPTS)).insertMissing(anyLong(), anyList(), any());
+    }
+
+    @Test
+    void findIdsByNames_CaseVariant_IsKeyedByStoredName() {
+        assertEquals(Map.of("mobile", 1L), tagJdbcRepository.findIdsByNames(List.of("MOBILE")));
+    }
+
+    @Test
+    void findIdsByNames_NoNames_ReturnsEmpty() {
+        assertEquals(Map.of(), tagJdbcRepository.findIdsByNames(List.of()));
+    }
+
+    @Test
+    void resolve_AnswersKnownNamesFromMemory() {
+        TagResolver resolver = resolver();
+        Map<String, Long> first = ids(resolver.resolve(List.of("mobile", "web")));
+        jdbcTemplate.update("DELETE FROM tags");
+
+        assertEquals(first, ids(resolver.resolve(List.of("mobile", "web"))));
+        assertEquals(List.copyOf(first.values()), List.copyOf(ids(resolver.resolve(List.of("Mobile", "WEB"))).values()));
+    }
+
+    @Test
+    void resolve_AnswersTagsLoadedByDictionaryRefresh() {
+        ReferenceDictionary dictionary = new ReferenceDictionary(localeRepository, tagJdbcRepository);
+        dictionary.refresh();
+        jdbcTemplate.update("DELETE FROM tags");
+
+        Map<String, Long> ids = ids(new TagResolver(tagJdbcRepository, idBlockAllocator, dictionary, transactionManager)
+                .resolve(List.of("mobile")));
+
+        assertEquals(Map.of("mobile", 1L), ids);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+
+    @Test
+    void resolve_ConcurrentCallsCreatingSameTags_AgreeOnIds() throws Exception {
+        List<String> names = List.of("race-a", "race-b", "race-c");
+        int callers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Map<String, Long>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                TagResolver resolver = resolver();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return ids(resolver.resolve(names));
+                }));
+            }
+            start.countDown();
+
+            Map<String, Long> expected = results.get(0).get();
+            for (Future<Map<String, Long>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+}
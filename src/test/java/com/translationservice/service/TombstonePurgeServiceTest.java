@@ -0,0 +1,57 @@
+package com.translationservice.service;
+
+import com.translationservice.repository.TranslationTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TombstonePurgeServiceTest {
+
+    @Mock
+    private TranslationTombstoneRepository tombstoneRepository;
+
+    @InjectMocks
+    private TombstonePurgeService tombstonePurgeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tombstonePurgeService, "retention", Duration.ofDays(30));
+    }
+
+    @Test
+    void purgeExpired_DeletesTombstonesOlderThanRetention() {
+        // Arrange
+        LocalDateTime earliest = LocalDateTime.now().minusDays(30);
+        when(tombstoneRepository.deleteDeletedBefore(any())).thenReturn(3);
+
+        // Act
+        int purged = tombstonePurgeService.purgeExpired();
+
+        // Assert
+        assertEquals(3, purged);
+        verify(tombstoneRepository).deleteDeletedBefore(argThat(before ->
+                !before.isBefore(earliest) && before.isBefore(LocalDateTime.now().minusDays(29))));
+    }
+
+    @Test
+    void purgeExpired_WithNothingToPurge_ReturnsZero() {
+        // Arrange
+        when(tombstoneRepository.deleteDeletedBefore(any())).thenReturn(0);
+
+        // Act & Assert
+        assertEquals(0, tombstonePurgeService.purgeExpired());
+    }
+}
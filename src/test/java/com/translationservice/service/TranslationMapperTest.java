@@ -0,0 +1,70 @@
+package com.translationservice.service;
+
+import com.translationservice.cache.LocaleInfo;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.model.Locale;
+import com.translationservice.model.Tag;
+import com.translationservice.model.Translation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationMapperTest {
+
+    @Mock
+    private ReferenceDictionary referenceDictionary;
+
+    @Test
+    void toDTO_DescribesLocaleFromDictionaryWithoutReadingIt() {
+        // Arrange
+        Locale reference = mock(Locale.class);
+        when(referenceDictionary.describe(reference)).thenReturn(new LocaleInfo(1L, "en", "English"));
+        Tag tag = new Tag();
+        tag.setName("mobile");
+        Translation translation = Translation.builder()
+                .id(7L)
+                .key("greeting")
+                .content("Hello")
+                .locale(reference)
+                .tags(new HashSet<>(Set.of(tag)))
+                .build();
+
+        // Act
+        TranslationResponseDTO dto = new TranslationMapper(referenceDictionary).toDTO(translation);
+
+        // Assert
+        assertEquals(7L, dto.getId());
+        assertEquals("greeting", dto.getKey());
+        assertEquals("Hello", dto.getContent());
+        assertEquals("en", dto.getLocaleCode());
+        assertEquals("English", dto.getLocaleName());
+        assertEquals(List.of("mobile"), dto.getTags());
+        verifyNoInteractions(reference);
+    }
+
+    @Test
+    void toDTO_WithTagNames_DoesNotReadTags() {
+        // Arrange
+        Locale locale = Locale.builder().id(1L).code("en").name("English").build();
+        when(referenceDictionary.describe(locale)).thenReturn(LocaleInfo.of(locale));
+        Translation translation = mock(Translation.class);
+        when(translation.getLocale()).thenReturn(locale);
+
+        // Act
+        TranslationResponseDTO dto = new TranslationMapper(referenceDictionary).toDTO(translation, List.of("web"));
+
+        // Assert
+        assertEquals(List.of("web"), dto.getTags());
+        verify(translation, never()).getTags();
+    }
+}
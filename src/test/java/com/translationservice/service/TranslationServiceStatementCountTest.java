@@ -0,0 +1,251 @@
+package com.translationservice.service;
+
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.dto.CursorPageDTO;
+import com.translationservice.dto.SearchPageDTO;
+import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationRequestDTO;
+import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.model.Locale;
+import com.translationservice.model.Tag;
+import com.translationservice.model.Translation;
+import com.translationservice.repository.TagJdbcRepository;
+import com.translationservice.search.TranslationSearchIndex;
+import com.translationservice.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pins the number of statements each list/search read path issues. Every path must stay
+ * bounded no matter how many rows it maps, so the dataset is larger than the expected counts.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({TranslationService.class, TranslationMapper.class, ReferenceDictionary.class, TagJdbcRepository.class})
+class TranslationServiceStatementCountTest {
+
+    private static final int ROWS_PER_LOCALE = 15;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReferenceDictionary referenceDictionary;
+
+    @MockBean
+    private LocaleBundleCache localeBundleCache;
+
+    @MockBean
+    private TranslationSearchIndex searchIndex;
+
+    @MockBean
+    private TagResolver tagResolver;
+
+    private StatementCounter statementCounter;
+
+    private List<Tag> tags;
+
+    @BeforeEach
+    void setUp() {
+        tags = List.of(tag("mobile"), tag("web"), tag("admin"));
+        tags.forEach(entityManager::persist);
+
+        for (String code : List.of("en", "fr", "de")) {
+            Locale locale = Locale.builder().code(code).name(code).build();
+            entityManager.persist(locale);
+            for (int i = 0; i < ROWS_PER_LOCALE; i++) {
+                Translation translation = Translation.builder()
+                        .key("key." + i)
+                        .content("Content " + code + " " + i)
+                        .locale(locale)
+                        .tags(new HashSet<>())
+                        .build();
+                translation.addTag(tags.get(i % tags.size()));
+                translation.addTag(tags.get((i + 1) % tags.size()));
+                entityManager.persist(translation);
+            }
+        }
+        // Start every path from a loaded dictionary and an empty persistence context, as a request would
+        entityManager.flush();
+        referenceDictionary.refresh();
+        entityManager.clear();
+        statementCounter = new StatementCounter(entityManagerFactory);
+    }
+
+    @Test
+    void getAllTranslations_UsesBoundedStatements() {
+        long statements = statementCounter.count(() -> translationService.getAllTranslations(PageRequest.of(0, 40)));
+
+        // page + count + one batch of tag sets; locales come from the dictionary
+        assertEquals(3, statements);
+    }
+
+    @Test
+    void getTranslationsByTagName_UsesBoundedStatements() {
+        // rows + one batch of tag sets, for 30 rows
+        assertEquals(2, statementCounter.count(() -> translationService.getTranslationsByTagName("mobile")));
+    }
+
+    @Test
+    void getTranslationsByKeyPattern_UsesBoundedStatements() {
+        assertEquals(2, statementCounter.count(() -> translationService.getTranslationsByKeyPattern("key.1")));
+    }
+
+    @Test
+    void getTranslationsByContentPattern_UsesBoundedStatements() {
+        assertEquals(2, statementCounter.count(() -> translationService.getTranslationsByContentPattern("Content")));
+    }
+
+    @Test
+    void searchTranslations_UsesBoundedStatements() {
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .content("Content")
+                .tags(List.of("mobile"))
+                .page(0)
+                .size(20)
+                .build();
+
+        // page of ids + count + one hydrating fetch join
+        assertEquals(3, statementCounter.count(() -> translationService.searchTranslations(request)));
+    }
+
+    @Test
+    void searchTranslations_WithFacets_AddsOneStatementPerFacet() {
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .content("Content")
+                .tags(List.of("mobile"))
+                .page(0)
+                .size(20)
+                .facets(true)
+                .build();
+
+        SearchPageDTO<TranslationResponseDTO> page = (SearchPageDTO<TranslationResponseDTO>) translationService.searchTranslations(request);
+        entityManager.clear();
+
+        assertEquals(Map.of("mobile", 30L, "web", 15L, "admin", 15L), page.getFacets().getTags());
+        assertEquals(Map.of("en", 10L, "fr", 10L, "de", 10L), page.getFacets().getLocales());
+        // page of ids + count + one hydrating fetch join + tag counts + locale counts
+        assertEquals(5, statementCounter.count(() -> translationService.searchTranslations(request)));
+    }
+
+    @Test
+    void createTranslation_LinksResolvedTagsWithoutReadingThem() {
+        when(tagResolver.resolve(List.of("mobile", "web")))
+                .thenReturn(Map.of("mobile", new TagInfo(tags.get(0).getId(), "mobile"), "web", new TagInfo(tags.get(1).getId(), "web")));
+        TranslationRequestDTO request = TranslationRequestDTO.builder()
+                .key("new.key")
+                .content("New")
+                .localeCode("en")
+                .tags(List.of("mobile", "web"))
+                .build();
+
+        long statements = statementCounter.count(() -> {
+            translationService.createTranslation(request);
+            entityManager.flush();
+        });
+
+        // existing key check + row insert + one batch of tag links; neither the locale nor a tag is selected
+        assertEquals(3, statements);
+        assertEquals(2L, entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM translation_tags tt JOIN translations t ON t.id = tt.translation_id WHERE t.translation_key = 'new.key'")
+                .getSingleResult());
+    }
+
+    @Test
+    void scrollTranslations_UsesBoundedStatementsOnEveryPage() {
+        CursorPageDTO<TranslationResponseDTO> first = translationService.scrollTranslations(null, 20, false);
+        entityManager.clear();
+
+        // rows + one batch of tag sets; no count unless asked for
+        assertEquals(2, statementCounter.count(() -> translationService.scrollTranslations(first.getNextCursor(), 20, false)));
+        entityManager.clear();
+        assertEquals(3, statementCounter.count(() -> translationService.scrollTranslations(first.getNextCursor(), 20, true)));
+    }
+
+    @Test
+    void scrollTranslations_WalksEveryRowExactlyOnce() {
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<TranslationResponseDTO> page = translationService.scrollTranslations(cursor, 7, false);
+            page.getContent().forEach(row -> assertTrue(seen.add(row.getId())));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(3 * ROWS_PER_LOCALE, seen.size());
+    }
+
+    @Test
+    void scrollSearchTranslations_UsesBoundedStatements() {
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .content("Content")
+                .tags(List.of("mobile"))
+                .size(20)
+                .build();
+
+        CursorPageDTO<TranslationResponseDTO> page = translationService.scrollSearchTranslations(request, null, true);
+        entityManager.clear();
+
+        assertEquals(20, page.getContent().size());
+        assertEquals(30L, page.getTotalElements());
+        // page of ids + one hydrating fetch join
+        assertEquals(2, statementCounter.count(() -> translationService.scrollSearchTranslations(request, page.getNextCursor(), false)));
+    }
+
+    @Test
+    void cachedBundleReads_AcquireNoConnection() {
+        LocaleBundle bundle = new LocaleBundle("en", 0L, Map.of("greeting", "Hello"), null);
+        when(localeBundleCache.getBundle("en")).thenReturn(bundle);
+        when(localeBundleCache.getExport(any())).thenReturn(new TranslationExport(List.of(bundle)));
+        // Leaves the test's own transaction, so only connections the service opens are counted
+        TestTransaction.end();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        translationService.getLocaleBundle("en");
+        translationService.getTranslationsByLocale("en");
+        translationService.getTranslationExport();
+        translationService.getAllTranslationsJson();
+
+        assertEquals(0, statistics.getConnectCount());
+        assertEquals(0, statistics.getTransactionCount());
+    }
+
+    private static Tag tag(String name) {
+        Tag tag = new Tag();
+        tag.setName(name);
+        return tag;
+    }
+}
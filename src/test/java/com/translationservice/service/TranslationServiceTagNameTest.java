@@ -0,0 +1,126 @@
+package com.translationservice.service;
+
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.dto.SearchPageDTO;
+import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationRequestDTO;
+import com.translationservice.dto.TranslationResponseDTO;
+import com.translationservice.repository.IdBlockAllocator;
+import com.translationservice.repository.TagJdbcRepository;
+import com.translationservice.search.TranslationSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tags named in a request in another case or with other accents than the stored tag must read back,
+ * and filter, the same way on every path. Runs against H2 comparing strings like MySQL's default
+ * collation, without a test transaction, since the resolver and the index act on commits.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tag-names;DB_CLOSE_DELAY=-1;COLLATION=ENGLISH STRENGTH PRIMARY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TranslationService.class, TranslationMapper.class, TagResolver.class, ReferenceDictionary.class, TagJdbcRepository.class,
+        IdBlockAllocator.class, TranslationSearchIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TranslationServiceTagNameTest {
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private ReferenceDictionary referenceDictionary;
+
+    @Autowired
+    private TranslationSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private LocaleBundleCache localeBundleCache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO locales (id, code, name) VALUES (1000, 'en', 'English')");
+        jdbcTemplate.update("INSERT INTO tags (id, name) VALUES (1000, 'mobile')");
+        referenceDictionary.refresh();
+        searchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM translation_tags");
+        jdbcTemplate.update("DELETE FROM translations");
+        jdbcTemplate.update("DELETE FROM tags");
+        jdbcTemplate.update("DELETE FROM locales");
+    }
+
+    @Test
+    void searchTranslations_MixedCaseFilters_IndexAndDatabaseAgree() {
+        TranslationResponseDTO tagged = translationService.createTranslation(TranslationRequestDTO.builder()
+                .key("greeting").content("Hello").localeCode("en").tags(List.of("mobile")).build());
+        translationService.createTranslation(TranslationRequestDTO.builder()
+                .key("farewell").content("Goodbye").localeCode("en").build());
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .localeCode("EN")
+                .tags(List.of("MÓBILE"))
+                .facets(true)
+                .build();
+
+        SearchPageDTO<TranslationResponseDTO> indexed = (SearchPageDTO<TranslationResponseDTO>) translationService.searchTranslations(request);
+        ReflectionTestUtils.setField(searchIndex, "ready", false);
+        SearchPageDTO<TranslationResponseDTO> queried = (SearchPageDTO<TranslationResponseDTO>) translationService.searchTranslations(request);
+
+        assertEquals(List.of(tagged.getId()), indexed.getContent().stream().map(TranslationResponseDTO::getId).toList());
+        assertEquals(indexed.getContent().stream().map(TranslationResponseDTO::getId).toList(),
+                queried.getContent().stream().map(TranslationResponseDTO::getId).toList());
+        assertEquals(queried.getFacets().getTags(), indexed.getFacets().getTags());
+        assertEquals(queried.getFacets().getLocales(), indexed.getFacets().getLocales());
+    }
+
+    @Test
+    void createTranslation_WithCaseVariantOfExistingTag_ReadsBackStoredNameEverywhere() {
+        TranslationResponseDTO created = translationService.createTranslation(TranslationRequestDTO.builder()
+                .key("greeting")
+                .content("Hello")
+                .localeCode("en")
+                .tags(List.of("Mobile", "MÓBILE"))
+                .build());
+
+        assertEquals(List.of("mobile"), created.getTags());
+        assertEquals(created.getTags(), translationService.getTranslation(created.getId()).getTags());
+
+        List<TranslationResponseDTO> indexed = translationService.searchTranslations(SearchRequestDTO.builder()
+                .tags(List.of("mobile"))
+                .build()).getContent();
+        assertEquals(List.of(created.getId()), indexed.stream().map(TranslationResponseDTO::getId).toList());
+        assertEquals(created.getTags(), indexed.get(0).getTags());
+
+        List<TranslationResponseDTO> byTag = translationService.getTranslationsByTagName("mobile");
+        assertEquals(List.of(created.getId()), byTag.stream().map(TranslationResponseDTO::getId).toList());
+        assertEquals(created.getTags(), byTag.get(0).getTags());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags", Integer.class));
+    }
+}
@@ -1,29 +1,52 @@
 package com.translationservice.service;
 
 
+import com.translationservice.cache.LocaleBundleCache;
+import com.translationservice.cache.TranslationExport;
+import com.translationservice.cache.LocaleBundle;
+import com.translationservice.cache.ReferenceDictionary;
+import com.translationservice.cache.TagInfo;
+import com.translationservice.dto.CursorPageDTO;
+import com.translationservice.dto.SearchFacetsDTO;
+import com.translationservice.dto.SearchPageDTO;
 import com.translationservice.dto.SearchRequestDTO;
+import com.translationservice.dto.TranslationDeltaDTO;
+import com.translationservice.dto.TranslationEntryDTO;
 import com.translationservice.dto.TranslationRequestDTO;
 import com.translationservice.dto.TranslationResponseDTO;
 import com.translationservice.exception.ResourceNotFoundException;
 import com.translationservice.model.Locale;
 import com.translationservice.model.Tag;
 import com.translationservice.model.Translation;
+import com.translationservice.model.TranslationTombstone;
 import com.translationservice.repository.LocaleRepository;
+import com.translationservice.repository.TagJdbcRepository;
 import com.translationservice.repository.TagRepository;
 import com.translationservice.repository.TranslationRepository;
+import com.translationservice.repository.TranslationTombstoneRepository;
+import com.translationservice.search.SearchMatches;
+import com.translationservice.search.TranslationSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,7 +64,21 @@ public class TranslationServiceTest {
     @Mock
     private TagRepository tagRepository;
 
-    @InjectMocks
+    @Mock
+    private TranslationTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private LocaleBundleCache localeBundleCache;
+
+    @Mock
+    private TranslationSearchIndex searchIndex;
+
+    @Mock
+    private TagResolver tagResolver;
+
+    @Mock
+    private TagJdbcRepository tagJdbcRepository;
+
     private TranslationService translationService;
 
     private Locale testLocale;
@@ -52,11 +89,19 @@ public class TranslationServiceTest {
 
     @BeforeEach
     void setUp() {
+        // A real dictionary over the mocked repositories, so locale lookups are stubbed on the repositories
+        ReferenceDictionary referenceDictionary = new ReferenceDictionary(localeRepository, tagJdbcRepository);
+        translationService = new TranslationService(translationRepository, localeRepository, tagRepository,
+                tombstoneRepository, localeBundleCache, searchIndex, tagResolver, referenceDictionary,
+                new TranslationMapper(referenceDictionary));
+        ReflectionTestUtils.setField(translationService, "tombstoneRetention", Duration.ofDays(30));
+
         // Setup test locale
         testLocale = new Locale();
         testLocale.setId(1L);
         testLocale.setCode("en-US");
         testLocale.setName("English (US)");
+        lenient().when(localeRepository.getReferenceById(1L)).thenReturn(testLocale);
 
         // Setup test tag
         testTag = new Tag();
@@ -98,7 +143,8 @@ public class TranslationServiceTest {
         // Arrange
         when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
         when(translationRepository.findByKeyAndLocale(anyString(), any(Locale.class))).thenReturn(Optional.empty());
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.of(testTag));
+        when(tagResolver.resolve(anyList())).thenReturn(Map.of(testTag.getName(), new TagInfo(testTag.getId(), testTag.getName())));
+        when(tagRepository.getReferenceById(testTag.getId())).thenReturn(testTag);
         when(translationRepository.save(any(Translation.class))).thenReturn(testTranslation);
 
         // Act
@@ -116,8 +162,9 @@ public class TranslationServiceTest {
 
         verify(localeRepository).findByCode(testRequestDTO.getLocaleCode());
         verify(translationRepository).findByKeyAndLocale(testRequestDTO.getKey(), testLocale);
-        verify(tagRepository).findByName(testRequestDTO.getTags().get(0));
+        verify(tagResolver).resolve(testRequestDTO.getTags());
         verify(translationRepository).save(any(Translation.class));
+        verify(localeBundleCache).put("en-US", "test.key", "Test content");
     }
 
     @Test
@@ -125,7 +172,8 @@ public class TranslationServiceTest {
         // Arrange
         when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
         when(translationRepository.findByKeyAndLocale(anyString(), any(Locale.class))).thenReturn(Optional.empty());
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.of(testTag));
+        when(tagResolver.resolve(anyList())).thenReturn(Map.of(testTag.getName(), new TagInfo(testTag.getId(), testTag.getName())));
+        when(tagRepository.getReferenceById(testTag.getId())).thenReturn(testTag);
         when(translationRepository.save(any(Translation.class))).thenReturn(testTranslation);
 
         // Act
@@ -136,7 +184,7 @@ public class TranslationServiceTest {
         assertEquals(1, result.getTags().size());
         assertTrue(result.getTags().contains(testTag.getName()));
 
-        verify(tagRepository).findByName(testRequestDTO.getTags().get(0));
+        verify(tagResolver).resolve(testRequestDTO.getTags());
     }
 
     @Test
@@ -165,7 +213,7 @@ public class TranslationServiceTest {
         assertNotNull(result);
         assertTrue(result.getTags().isEmpty());
 
-        verify(tagRepository, never()).findByName(anyString());
+        verify(tagResolver, never()).resolve(any());
     }
 
     @Test
@@ -194,28 +242,53 @@ public class TranslationServiceTest {
         assertNotNull(result);
         assertTrue(result.getTags().isEmpty());
 
-        verify(tagRepository, never()).findByName(anyString());
+        verify(tagResolver, never()).resolve(any());
     }
 
     @Test
-    void createTranslation_WithNonExistingTag_CreatesNewTag() {
+    void createTranslation_WithNewTag_LinksResolvedTagByReference() {
         // Arrange
+        Tag reference = mock(Tag.class);
+        testRequestDTO.setTags(List.of("fresh", "fresh"));
         when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
         when(translationRepository.findByKeyAndLocale(anyString(), any(Locale.class))).thenReturn(Optional.empty());
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.empty());
-        when(tagRepository.save(any(Tag.class))).thenReturn(testTag);
-        when(translationRepository.save(any(Translation.class))).thenReturn(testTranslation);
+        when(tagResolver.resolve(List.of("fresh"))).thenReturn(Map.of("fresh", new TagInfo(9L, "fresh")));
+        when(tagRepository.getReferenceById(9L)).thenReturn(reference);
+        when(translationRepository.save(any(Translation.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         TranslationResponseDTO result = translationService.createTranslation(testRequestDTO);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.getTags().size());
-        assertTrue(result.getTags().contains(testTag.getName()));
+        assertEquals(List.of("fresh"), result.getTags());
+        verify(translationRepository).save(argThat(translation -> translation.getTags().equals(Set.of(reference))));
+        // The reference is never read: the tag may have been committed after this transaction's snapshot
+        verifyNoInteractions(reference);
+        verify(tagRepository, never()).save(any(Tag.class));
+    }
+
+    @Test
+    void createTranslation_WithCaseVariantsOfStoredTag_ReturnsAndIndexesStoredNameOnce() {
+        // Arrange
+        TagInfo stored = new TagInfo(testTag.getId(), testTag.getName());
+        testRequestDTO.setTags(List.of("Test-Tag", "TEST-TAG"));
+        when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
+        when(translationRepository.findByKeyAndLocale(anyString(), any(Locale.class))).thenReturn(Optional.empty());
+        when(tagResolver.resolve(List.of("Test-Tag", "TEST-TAG"))).thenReturn(Map.of("Test-Tag", stored, "TEST-TAG", stored));
+        when(tagRepository.getReferenceById(testTag.getId())).thenReturn(testTag);
+        when(translationRepository.save(any(Translation.class))).thenAnswer(invocation -> {
+            Translation translation = invocation.getArgument(0);
+            translation.setId(1L);
+            return translation;
+        });
+
+        // Act
+        TranslationResponseDTO result = translationService.createTranslation(testRequestDTO);
 
-        verify(tagRepository).findByName(testRequestDTO.getTags().get(0));
-        verify(tagRepository).save(any(Tag.class));
+        // Assert
+        assertEquals(List.of("test-tag"), result.getTags());
+        verify(tagRepository, times(1)).getReferenceById(testTag.getId());
+        verify(searchIndex).put(1L, "test.key", "Test content", "en-US", List.of("test-tag"));
     }
 
     @Test
@@ -248,7 +321,8 @@ public class TranslationServiceTest {
         // Arrange
         when(translationRepository.findById(anyLong())).thenReturn(Optional.of(testTranslation));
         when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.of(testTag));
+        when(tagResolver.resolve(anyList())).thenReturn(Map.of(testTag.getName(), new TagInfo(testTag.getId(), testTag.getName())));
+        when(tagRepository.getReferenceById(testTag.getId())).thenReturn(testTag);
         when(translationRepository.save(any(Translation.class))).thenReturn(testTranslation);
 
         // Act
@@ -264,6 +338,95 @@ public class TranslationServiceTest {
         verify(translationRepository).findById(1L);
         verify(localeRepository).findByCode(testRequestDTO.getLocaleCode());
         verify(translationRepository).save(any(Translation.class));
+        verify(localeBundleCache).put("en-US", "test.key", "Test content");
+        verify(localeBundleCache, never()).remove(anyString(), anyString());
+    }
+
+    @Test
+    void updateTranslation_MovingToAnotherLocale_InvalidatesBothBundles() {
+        // Arrange
+        Locale frLocale = Locale.builder().id(2L).code("fr").name("French").build();
+        testRequestDTO.setLocaleCode("fr");
+        testRequestDTO.setKey("moved.key");
+        when(translationRepository.findById(anyLong())).thenReturn(Optional.of(testTranslation));
+        when(localeRepository.findByCode("fr")).thenReturn(Optional.of(frLocale));
+        when(localeRepository.getReferenceById(2L)).thenReturn(frLocale);
+        when(tagResolver.resolve(anyList())).thenReturn(Map.of(testTag.getName(), new TagInfo(testTag.getId(), testTag.getName())));
+        when(tagRepository.getReferenceById(testTag.getId())).thenReturn(testTag);
+        when(translationRepository.save(any(Translation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        translationService.updateTranslation(1L, testRequestDTO);
+
+        // Assert
+        verify(localeBundleCache).remove("en-US", "test.key");
+        verify(localeBundleCache).put("fr", "moved.key", "Test content");
+        verify(tombstoneRepository).save(argThat(tombstone ->
+                tombstone.getKey().equals("test.key") && tombstone.getLocale() == testLocale));
+    }
+
+    @Test
+    void getTranslationDelta_WithCursor_ReturnsChangedAndDeletedKeysSinceOverlap() {
+        // Arrange
+        Instant since = Instant.now().minus(Duration.ofHours(1));
+        LocalDateTime from = LocalDateTime.ofInstant(since, ZoneId.systemDefault()).minus(TranslationService.DELTA_OVERLAP);
+        when(localeRepository.findByCode("en-US")).thenReturn(Optional.of(testLocale));
+        when(translationRepository.findEntriesByLocaleUpdatedSince(testLocale, from)).thenReturn(List.of(
+                new TranslationEntryDTO("changed.key", "New"),
+                new TranslationEntryDTO("recreated.key", "Back again")));
+        when(tombstoneRepository.findDeletedKeysSince(testLocale, from)).thenReturn(List.of("gone.key", "recreated.key"));
+        Instant before = Instant.now();
+
+        // Act
+        TranslationDeltaDTO delta = translationService.getTranslationDelta("en-US", since);
+
+        // Assert
+        assertEquals("en-US", delta.getLocaleCode());
+        assertEquals(Map.of("changed.key", "New", "recreated.key", "Back again"), delta.getChanged());
+        assertEquals(List.of("gone.key"), delta.getDeleted());
+        assertFalse(delta.isFull());
+        assertFalse(delta.getCursor().isBefore(before.minusMillis(1)));
+        verify(translationRepository, never()).streamEntriesByLocale(any(Locale.class));
+    }
+
+    @Test
+    void getTranslationDelta_WithoutCursor_ReturnsWholeLocale() {
+        // Arrange
+        when(localeRepository.findByCode("en-US")).thenReturn(Optional.of(testLocale));
+        when(translationRepository.streamEntriesByLocale(testLocale)).thenReturn(Stream.of(
+                new TranslationEntryDTO("a", "1"), new TranslationEntryDTO("b", "2")));
+
+        // Act
+        TranslationDeltaDTO delta = translationService.getTranslationDelta("en-US", null);
+
+        // Assert
+        assertEquals(Map.of("a", "1", "b", "2"), delta.getChanged());
+        assertTrue(delta.getDeleted().isEmpty());
+        assertTrue(delta.isFull());
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void getTranslationDelta_WithCursorOlderThanTombstoneRetention_ReturnsWholeLocale() {
+        // Arrange
+        when(localeRepository.findByCode("en-US")).thenReturn(Optional.of(testLocale));
+        when(translationRepository.streamEntriesByLocale(testLocale)).thenReturn(Stream.of(new TranslationEntryDTO("a", "1")));
+
+        // Act
+        TranslationDeltaDTO delta = translationService.getTranslationDelta("en-US", Instant.now().minus(Duration.ofDays(31)));
+
+        // Assert
+        assertEquals(Map.of("a", "1"), delta.getChanged());
+        assertTrue(delta.isFull());
+        verifyNoInteractions(tombstoneRepository);
+        verify(translationRepository, never()).findEntriesByLocaleUpdatedSince(any(), any());
+    }
+
+    @Test
+    void getTranslationDelta_WithNonExistingLocale_ThrowsResourceNotFoundException() {
+        when(localeRepository.findByCode("xx")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> translationService.getTranslationDelta("xx", null));
     }
 
     @Test
@@ -280,7 +443,8 @@ public class TranslationServiceTest {
         newTag.setId(2L);
         newTag.setName("new-tag");
 
-        when(tagRepository.findByName("new-tag")).thenReturn(Optional.of(newTag));
+        when(tagResolver.resolve(newTags)).thenReturn(Map.of("new-tag", new TagInfo(2L, "new-tag")));
+        when(tagRepository.getReferenceById(2L)).thenReturn(newTag);
 
         Set<Tag> updatedTags = new HashSet<>();
         updatedTags.add(newTag);
@@ -305,7 +469,7 @@ public class TranslationServiceTest {
         assertEquals(1, result.getTags().size());
         assertTrue(result.getTags().contains("new-tag"));
 
-        verify(tagRepository).findByName("new-tag");
+        verify(tagResolver).resolve(newTags);
     }
 
     @Test
@@ -334,7 +498,7 @@ public class TranslationServiceTest {
         assertNotNull(result);
         assertTrue(result.getTags().isEmpty());
 
-        verify(tagRepository, never()).findByName(anyString());
+        verify(tagResolver, never()).resolve(any());
     }
 
     @Test
@@ -363,7 +527,7 @@ public class TranslationServiceTest {
         assertNotNull(result);
         assertTrue(result.getTags().isEmpty());
 
-        verify(tagRepository, never()).findByName(anyString());
+        verify(tagResolver, never()).resolve(any());
     }
 
     @Test
@@ -438,42 +602,43 @@ public class TranslationServiceTest {
     }
 
     @Test
-    void getTranslationsByLocale_WithExistingLocale_ReturnsMapOfTranslations() {
+    void getTranslationsByLocale_ReturnsCachedBundleTranslations() {
         // Arrange
-        when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
-        when(translationRepository.findByLocale(any(Locale.class))).thenReturn(Collections.singletonList(testTranslation));
+        Map<String, String> bundle = Collections.singletonMap("test.key", "Test content");
+        when(localeBundleCache.getBundle("en-US")).thenReturn(new LocaleBundle("en-US", 0L, bundle, null));
 
         // Act
         Map<String, String> results = translationService.getTranslationsByLocale("en-US");
 
         // Assert
-        assertNotNull(results);
-        assertEquals(1, results.size());
-        assertEquals(testTranslation.getContent(), results.get(testTranslation.getKey()));
-
-        verify(localeRepository).findByCode("en-US");
-        verify(translationRepository).findByLocale(testLocale);
+        assertEquals(bundle, results);
+        verify(localeBundleCache).getBundle("en-US");
+        verifyNoInteractions(translationRepository);
     }
 
     @Test
     void getTranslationsByLocale_WithNonExistingLocale_ThrowsResourceNotFoundException() {
         // Arrange
-        when(localeRepository.findByCode(anyString())).thenReturn(Optional.empty());
+        when(localeBundleCache.getBundle(anyString())).thenThrow(new ResourceNotFoundException("Locale not found with code: non-existent"));
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> translationService.getTranslationsByLocale("non-existent"));
 
         assertTrue(exception.getMessage().contains("Locale not found"));
-        verify(translationRepository, never()).findByLocale(any(Locale.class));
     }
 
     @Test
-    void getAllTranslationsJson_ReturnsMapOfTranslationsByLocale() {
+    @SuppressWarnings("unchecked")
+    void getAllTranslationsJson_AssemblesExportFromLocaleCodes() {
         // Arrange
-        List<Locale> locales = Collections.singletonList(testLocale);
-        when(localeRepository.findAll()).thenReturn(locales);
-        when(localeRepository.findByCode(anyString())).thenReturn(Optional.of(testLocale));
-        when(translationRepository.findByLocale(any(Locale.class))).thenReturn(Collections.singletonList(testTranslation));
+        when(localeRepository.findAll()).thenReturn(Collections.singletonList(testLocale));
+        when(localeBundleCache.getExport(any())).thenAnswer(invocation -> {
+            Collection<String> localeCodes = ((Supplier<Collection<String>>) invocation.getArgument(0)).get();
+            List<LocaleBundle> bundles = new ArrayList<>();
+            localeCodes.forEach(code -> bundles.add(
+                    new LocaleBundle(code, 0L, Collections.singletonMap("test.key", "Test content"), null)));
+            return new TranslationExport(bundles);
+        });
 
         // Act
         Map<String, Map<String, String>> results = translationService.getAllTranslationsJson();
@@ -485,19 +650,42 @@ public class TranslationServiceTest {
         assertEquals(1, results.get(testLocale.getCode()).size());
 
         verify(localeRepository).findAll();
-        verify(localeRepository).findByCode(testLocale.getCode());
-        verify(translationRepository).findByLocale(testLocale);
+        verify(translationRepository, never()).findByLocale(any(Locale.class));
+    }
+
+    @Test
+    void exportTranslations_WritesLocalesAndEntriesAsJson() throws Exception {
+        // Arrange
+        Locale frLocale = Locale.builder().id(2L).code("fr").name("French").build();
+        when(localeRepository.findAll()).thenReturn(Arrays.asList(frLocale, testLocale));
+        when(localeRepository.getReferenceById(2L)).thenReturn(frLocale);
+        when(translationRepository.streamEntriesByLocale(testLocale)).thenReturn(Stream.of(
+                new TranslationEntryDTO("a.key", "First"),
+                new TranslationEntryDTO("b.key", "Second \"quoted\"")));
+        when(translationRepository.streamEntriesByLocale(frLocale)).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        translationService.exportTranslations(outputStream);
+
+        // Assert
+        assertEquals("{\"en-US\":{\"a.key\":\"First\",\"b.key\":\"Second \\\"quoted\\\"\"},\"fr\":{}}",
+                outputStream.toString(StandardCharsets.UTF_8));
+        verify(localeRepository).findAll();
+        verify(translationRepository, never()).findByLocale(any(Locale.class));
     }
 
     @Test
     void searchTranslations_WithAllParamsProvided_ReturnsPageOfTranslationResponseDTOs() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Translation> page = new PageImpl<>(Collections.singletonList(testTranslation));
+        Page<Long> page = new PageImpl<>(Collections.singletonList(testTranslation.getId()));
 
-        when(translationRepository.searchTranslations(
+        when(translationRepository.searchTranslationIds(
                 anyString(), anyString(), anyString(), anyList(), anyInt(), any(Pageable.class)
         )).thenReturn(page);
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(testTranslation.getId())))
+                .thenReturn(Collections.singletonList(testTranslation));
 
         // Act
         Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
@@ -505,8 +693,9 @@ public class TranslationServiceTest {
         // Assert
         assertNotNull(results);
         assertEquals(1, results.getTotalElements());
+        assertEquals(testTranslation.getKey(), results.getContent().get(0).getKey());
 
-        verify(translationRepository).searchTranslations(
+        verify(translationRepository).searchTranslationIds(
                 testSearchRequestDTO.getKey(),
                 testSearchRequestDTO.getContent(),
                 testSearchRequestDTO.getLocaleCode(),
@@ -520,11 +709,13 @@ public class TranslationServiceTest {
     void searchTranslations_WithNullPage_UsesDefaultPage() {
         // Arrange
         testSearchRequestDTO.setPage(null);
-        Page<Translation> page = new PageImpl<>(Collections.singletonList(testTranslation));
+        Page<Long> page = new PageImpl<>(Collections.singletonList(testTranslation.getId()));
 
-        when(translationRepository.searchTranslations(
+        when(translationRepository.searchTranslationIds(
                 anyString(), anyString(), anyString(), anyList(), anyInt(), any(Pageable.class)
         )).thenReturn(page);
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(testTranslation.getId())))
+                .thenReturn(Collections.singletonList(testTranslation));
 
         // Act
         Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
@@ -533,7 +724,7 @@ public class TranslationServiceTest {
         assertNotNull(results);
 
         // Verify that PageRequest was created with default page 0
-        verify(translationRepository).searchTranslations(
+        verify(translationRepository).searchTranslationIds(
                 any(), any(), any(), any(), any(),
                 argThat(pageable -> pageable.getPageNumber() == 0)
         );
@@ -543,11 +734,13 @@ public class TranslationServiceTest {
     void searchTranslations_WithNullSize_UsesDefaultSize() {
         // Arrange
         testSearchRequestDTO.setSize(null);
-        Page<Translation> page = new PageImpl<>(Collections.singletonList(testTranslation));
+        Page<Long> page = new PageImpl<>(Collections.singletonList(testTranslation.getId()));
 
-        when(translationRepository.searchTranslations(
+        when(translationRepository.searchTranslationIds(
                 anyString(), anyString(), anyString(), anyList(), anyInt(), any(Pageable.class)
         )).thenReturn(page);
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(testTranslation.getId())))
+                .thenReturn(Collections.singletonList(testTranslation));
 
         // Act
         Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
@@ -556,7 +749,7 @@ public class TranslationServiceTest {
         assertNotNull(results);
 
         // Verify that PageRequest was created with default size 20
-        verify(translationRepository).searchTranslations(
+        verify(translationRepository).searchTranslationIds(
                 any(), any(), any(), any(), any(),
                 argThat(pageable -> pageable.getPageSize() == 20)
         );
@@ -566,11 +759,13 @@ public class TranslationServiceTest {
     void searchTranslations_WithNullTags_UsesEmptyList() {
         // Arrange
         testSearchRequestDTO.setTags(null);
-        Page<Translation> page = new PageImpl<>(Collections.singletonList(testTranslation));
+        Page<Long> page = new PageImpl<>(Collections.singletonList(testTranslation.getId()));
 
-        when(translationRepository.searchTranslations(
+        when(translationRepository.searchTranslationIds(
                 anyString(), anyString(), anyString(), anyList(), anyInt(), any(Pageable.class)
         )).thenReturn(page);
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(testTranslation.getId())))
+                .thenReturn(Collections.singletonList(testTranslation));
 
         // Act
         Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
@@ -579,7 +774,7 @@ public class TranslationServiceTest {
         assertNotNull(results);
 
         // Verify that an empty list was used for tags
-        verify(translationRepository).searchTranslations(
+        verify(translationRepository).searchTranslationIds(
                 any(), any(), any(),
                 argThat(List::isEmpty),
                 eq(0),
@@ -587,6 +782,192 @@ public class TranslationServiceTest {
         );
     }
 
+    @Test
+    void searchTranslations_KeepsPageOrderAndSkipsHydrationWhenEmpty() {
+        // Arrange
+        Translation second = Translation.builder().id(2L).key("second.key").content("Second")
+                .locale(testLocale).tags(new HashSet<>()).build();
+        when(translationRepository.searchTranslationIds(any(), any(), any(), anyList(), anyInt(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L)))
+                .thenReturn(Page.empty());
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(testTranslation, second));
+
+        // Act
+        Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
+        Page<TranslationResponseDTO> empty = translationService.searchTranslations(testSearchRequestDTO);
+
+        // Assert
+        assertEquals(List.of("second.key", "test.key"), results.map(TranslationResponseDTO::getKey).getContent());
+        assertTrue(empty.isEmpty());
+        verify(translationRepository, times(1)).findAllWithLocaleAndTagsByIdIn(anyList());
+    }
+
+    @Test
+    void scrollTranslations_ReadsOneExtraRowToFindTheNextCursor() {
+        // Arrange
+        Translation second = Translation.builder().id(2L).key("second.key").content("Second")
+                .locale(testLocale).tags(new HashSet<>()).build();
+        when(translationRepository.findPageAfterId(0L, PageRequest.of(0, 2))).thenReturn(List.of(testTranslation, second));
+
+        // Act
+        CursorPageDTO<TranslationResponseDTO> page = translationService.scrollTranslations(null, 1, false);
+
+        // Assert
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals(1L, IdCursor.decode(page.getNextCursor()));
+        assertNull(page.getTotalElements());
+        verify(translationRepository, never()).count();
+    }
+
+    @Test
+    void scrollTranslations_LastPageHasNoCursorAndCountsOnRequest() {
+        // Arrange
+        when(translationRepository.findPageAfterId(eq(1L), any(Pageable.class))).thenReturn(List.of());
+        when(translationRepository.count()).thenReturn(1L);
+
+        // Act
+        CursorPageDTO<TranslationResponseDTO> page = translationService.scrollTranslations(IdCursor.encode(1L), 5000, true);
+
+        // Assert
+        assertNull(page.getNextCursor());
+        assertEquals(1L, page.getTotalElements());
+        assertEquals(TranslationService.MAX_SCROLL_SIZE, page.getSize());
+        assertThrows(IllegalArgumentException.class, () -> translationService.scrollTranslations(null, 0, false));
+    }
+
+    @Test
+    void searchTranslations_WithReadyIndex_SlicesIndexMatchesWithoutNativeQuery() {
+        // Arrange
+        testSearchRequestDTO.setPage(1);
+        testSearchRequestDTO.setSize(2);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("test", "content", "en-US", List.of("test-tag"), false)).thenReturn(new SearchMatches(new long[]{1L, 4L, 7L, 9L, 12L}, null));
+        Translation seven = Translation.builder().id(7L).key("test.seven").content("content").locale(testLocale).tags(new HashSet<>()).build();
+        Translation nine = Translation.builder().id(9L).key("test.nine").content("content").locale(testLocale).tags(new HashSet<>()).build();
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(7L, 9L))).thenReturn(List.of(nine, seven));
+
+        // Act
+        Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
+
+        // Assert
+        assertEquals(5, results.getTotalElements());
+        assertEquals(List.of(7L, 9L), results.getContent().stream().map(TranslationResponseDTO::getId).collect(Collectors.toList()));
+        verify(translationRepository, never()).searchTranslationIds(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchTranslations_WithReadyIndexAndDeletedRow_LeavesItOutOfPageAndTotal() {
+        // Arrange
+        testSearchRequestDTO.setPage(1);
+        testSearchRequestDTO.setSize(2);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("test", "content", "en-US", List.of("test-tag"), false)).thenReturn(new SearchMatches(new long[]{1L, 4L, 7L, 9L, 12L}, null));
+        Translation nine = Translation.builder().id(9L).key("test.nine").content("content").locale(testLocale).tags(new HashSet<>()).build();
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(7L, 9L))).thenReturn(List.of(nine));
+
+        // Act
+        Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
+
+        // Assert
+        assertEquals(4, results.getTotalElements());
+        assertEquals(List.of(9L), results.getContent().stream().map(TranslationResponseDTO::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void searchTranslations_WithFacetsAndReadyIndex_ReturnsIndexFacets() {
+        // Arrange
+        testSearchRequestDTO.setFacets(true);
+        SearchFacetsDTO facets = new SearchFacetsDTO(Map.of("test-tag", 1L), Map.of("en-US", 1L));
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("test", "content", "en-US", List.of("test-tag"), true)).thenReturn(new SearchMatches(new long[]{1L}, facets));
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(1L))).thenReturn(List.of(testTranslation));
+
+        // Act
+        Page<TranslationResponseDTO> results = translationService.searchTranslations(testSearchRequestDTO);
+
+        // Assert
+        assertSame(facets, ((SearchPageDTO<TranslationResponseDTO>) results).getFacets());
+        verify(translationRepository, never()).countSearchTranslationsByTag(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchTranslations_WithFacetsAndNoIndex_CountsFacetsInDatabase() {
+        // Arrange
+        testSearchRequestDTO.setFacets(true);
+        when(translationRepository.searchTranslationIds(
+                anyString(), anyString(), anyString(), anyList(), anyInt(), any(Pageable.class)
+        )).thenReturn(new PageImpl<>(Collections.singletonList(testTranslation.getId())));
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(testTranslation.getId())))
+                .thenReturn(Collections.singletonList(testTranslation));
+        when(translationRepository.countSearchTranslationsByTag("test", "content", "en-US", List.of("test-tag"), 1))
+                .thenReturn(List.<Object[]>of(new Object[]{"test-tag", 1L}, new Object[]{"other", 3L}));
+        when(translationRepository.countSearchTranslationsByLocale("test", "content", "en-US", List.of("test-tag"), 1))
+                .thenReturn(List.<Object[]>of(new Object[]{"en-US", 4L}));
+
+        // Act
+        SearchFacetsDTO facets = ((SearchPageDTO<TranslationResponseDTO>) translationService.searchTranslations(testSearchRequestDTO)).getFacets();
+
+        // Assert
+        assertEquals(List.of("other", "test-tag"), List.copyOf(facets.getTags().keySet()));
+        assertEquals(Map.of("en-US", 4L), facets.getLocales());
+    }
+
+    @Test
+    void scrollSearchTranslations_WithReadyIndex_SeeksPastCursorInIndexMatches() {
+        // Arrange
+        testSearchRequestDTO.setSize(1);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("test", "content", "en-US", List.of("test-tag"), false)).thenReturn(new SearchMatches(new long[]{1L, 4L, 7L}, null));
+        Translation four = Translation.builder().id(4L).key("test.four").content("content").locale(testLocale).tags(new HashSet<>()).build();
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(4L))).thenReturn(List.of(four));
+
+        // Act
+        CursorPageDTO<TranslationResponseDTO> result = translationService.scrollSearchTranslations(testSearchRequestDTO, IdCursor.encode(2L), true);
+
+        // Assert
+        assertEquals(List.of(4L), result.getContent().stream().map(TranslationResponseDTO::getId).collect(Collectors.toList()));
+        assertEquals(IdCursor.encode(4L), result.getNextCursor());
+        assertEquals(3L, result.getTotalElements());
+        verify(translationRepository, never()).searchTranslationIdsAfter(any(), any(), any(), any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void scrollSearchTranslations_WithReadyIndexAndDeletedRow_LeavesItOutOfCount() {
+        // Arrange
+        testSearchRequestDTO.setSize(1);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("test", "content", "en-US", List.of("test-tag"), false)).thenReturn(new SearchMatches(new long[]{1L, 4L, 7L}, null));
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(4L))).thenReturn(List.of());
+
+        // Act
+        CursorPageDTO<TranslationResponseDTO> result = translationService.scrollSearchTranslations(testSearchRequestDTO, IdCursor.encode(2L), true);
+
+        // Assert
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(IdCursor.encode(4L), result.getNextCursor());
+        assertEquals(2L, result.getTotalElements());
+    }
+
+    @Test
+    void scrollSearchTranslations_SeeksPastCursorAndKeepsIdOrder() {
+        // Arrange
+        when(translationRepository.searchTranslationIdsAfter("test", "content", "en-US", List.of("test-tag"), 1, 5L, 11))
+                .thenReturn(List.of(6L));
+        Translation sixth = Translation.builder().id(6L).key("sixth.key").content("Sixth")
+                .locale(testLocale).tags(new HashSet<>()).build();
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(6L))).thenReturn(List.of(sixth));
+
+        // Act
+        CursorPageDTO<TranslationResponseDTO> page = translationService.scrollSearchTranslations(testSearchRequestDTO, IdCursor.encode(5L), false);
+
+        // Assert
+        assertEquals(List.of("sixth.key"), page.getContent().stream().map(TranslationResponseDTO::getKey).toList());
+        assertFalse(page.isHasNext());
+        verify(translationRepository, never()).countSearchTranslations(any(), any(), any(), anyList(), anyInt());
+    }
+
     @Test
     void getTranslationsByTagName_ReturnsListOfTranslationResponseDTOs() {
         // Arrange
@@ -635,29 +1016,65 @@ public class TranslationServiceTest {
         verify(translationRepository).findByContentContaining("content");
     }
 
+    @Test
+    void getTranslationsByKeyPattern_WithReadyIndex_HydratesIndexMatchesInIdOrder() {
+        // Arrange
+        Translation other = Translation.builder().id(2L).key("test.other").content("Other").locale(testLocale).tags(new HashSet<>()).build();
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.findIdsByKey("test")).thenReturn(List.of(1L, 2L));
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(1L, 2L))).thenReturn(List.of(other, testTranslation));
+
+        // Act
+        List<TranslationResponseDTO> results = translationService.getTranslationsByKeyPattern("test");
+
+        // Assert
+        assertEquals(List.of(1L, 2L), results.stream().map(TranslationResponseDTO::getId).collect(Collectors.toList()));
+        verify(translationRepository, never()).findByKeyContaining(anyString());
+    }
+
+    @Test
+    void getTranslationsByContentPattern_WithReadyIndex_SkipsRowsDeletedSinceIndexRead() {
+        // Arrange
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.findIdsByContent("content")).thenReturn(List.of(1L, 3L));
+        when(translationRepository.findAllWithLocaleAndTagsByIdIn(List.of(1L, 3L))).thenReturn(List.of(testTranslation));
+
+        // Act
+        List<TranslationResponseDTO> results = translationService.getTranslationsByContentPattern("content");
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(testTranslation.getId(), results.get(0).getId());
+        verify(translationRepository, never()).findByContentContaining(anyString());
+    }
+
     @Test
     void deleteTranslation_WithExistingId_DeletesTranslation() {
         // Arrange
-        when(translationRepository.existsById(anyLong())).thenReturn(true);
-        doNothing().when(translationRepository).deleteById(anyLong());
+        when(translationRepository.findById(anyLong())).thenReturn(Optional.of(testTranslation));
+        doNothing().when(translationRepository).delete(any(Translation.class));
 
         // Act
         translationService.deleteTranslation(1L);
 
         // Assert
-        verify(translationRepository).existsById(1L);
-        verify(translationRepository).deleteById(1L);
+        verify(translationRepository).findById(1L);
+        verify(translationRepository).delete(testTranslation);
+        verify(tombstoneRepository).save(any(TranslationTombstone.class));
+        verify(localeBundleCache).remove("en-US", "test.key");
     }
 
     @Test
     void deleteTranslation_WithNonExistingId_ThrowsResourceNotFoundException() {
         // Arrange
-        when(translationRepository.existsById(anyLong())).thenReturn(false);
+        when(translationRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> translationService.deleteTranslation(1L));
 
         assertTrue(exception.getMessage().contains("Translation not found"));
-        verify(translationRepository, never()).deleteById(anyLong());
+        verify(translationRepository, never()).delete(any(Translation.class));
+        verifyNoInteractions(tombstoneRepository);
+        verify(localeBundleCache, never()).remove(anyString(), anyString());
     }
 }
\ No newline at end of file